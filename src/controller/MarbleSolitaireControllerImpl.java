@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.Scanner;
 
 import model.MarbleSolitaireModel;
+import model.MoveResult;
 import view.MarbleSolitaireView;
 
 /**
@@ -63,6 +64,11 @@ public class MarbleSolitaireControllerImpl implements MarbleSolitaireController
           return;
         }
 
+        // if the input is undo, then take back the last move
+        else if (next.equalsIgnoreCase("undo")) {
+          this.undoLastMove();
+        }
+
         // checking all other inputs if is not a q, more specifically, looking for a valid number
         else {
           this.checkForValidNumber(next);
@@ -114,6 +120,7 @@ public class MarbleSolitaireControllerImpl implements MarbleSolitaireController
               + System.lineSeparator() + "1. fromRow  2. fromColumn  3. toRow  4. toColumn."
               + System.lineSeparator() + "The numbers should begin at 1 to represent the first " +
               "row/column, 2 to represent the second row/column, and so on."
+              + System.lineSeparator() + "Enter undo to take back your last move."
               + System.lineSeparator() + "Enter q at any moment to quit the game. Have fun!"
               + System.lineSeparator());
       this.showScoreAndBoard();
@@ -194,18 +201,35 @@ public class MarbleSolitaireControllerImpl implements MarbleSolitaireController
       int toRow = this.numbersForMoves.remove(0);
       int toCol = this.numbersForMoves.remove(0);
 
-      try {
-        this.model.move(fromRow, fromCol, toRow, toCol);
+      // trying the move without an exception, since a move typed in by the user is often invalid
+      if (this.model.tryMove(fromRow, fromCol, toRow, toCol) == MoveResult.OK) {
         if (!this.model.isGameOver()) {
           this.showScoreAndBoard();
         }
       }
-      catch (IllegalArgumentException e) {
+      else {
         this.catchIOMessageException("Invalid move. Play again.");
       }
     }
   }
 
+  /**
+   * Takes back the last move made on the model and displays the board and score it goes back to,
+   * forgetting any numbers of a move that was only partly entered. Informs the user if there is
+   * no move to take back.
+   *
+   * @throws IllegalStateException if transmission to the view fails
+   */
+  private void undoLastMove() throws IllegalStateException {
+    this.numbersForMoves.clear();
+    if (this.model.undo()) {
+      this.showScoreAndBoard();
+    }
+    else {
+      this.catchIOMessageException("There is no move to undo.");
+    }
+  }
+
   /**
    * Displays the necessary information once the game is over, including a game over message, the
    * final state of the game, and the final score.
@@ -0,0 +1,420 @@
+package model;
+
+import java.util.function.IntConsumer;
+
+/**
+ * An abstract class for marble solitaire models meant for boards that are too large to keep as
+ * an array on the heap. Where and how the slots are stored is left to each implementation, while
+ * this class holds the rules of the game that are shared by all of them.
+ *
+ * <p>
+ *   The shape of the board is never stored: whether a slot is a part of the playing area is
+ *   always worked out from the span of valid columns of its row. The number of marbles and the
+ *   number of valid moves are kept up to date by every move, and the valid moves at the start of
+ *   a game are counted around the empty slot alone, so no method ever scans the whole board.
+ *   Since these boards can have more slots than an int can hold, both counts are longs.
+ * </p>
+ */
+public abstract class AbstractLargeSolitaireModel implements MarbleSolitaireModel {
+
+  protected static final int EMPTY = SlotState.Empty.ordinal();
+  protected static final int MARBLE = SlotState.Marble.ordinal();
+  protected static final int INVALID = SlotState.Invalid.ordinal();
+  private static final SlotState[] SLOT_STATES = SlotState.values();
+
+  protected final int armThickness;
+  protected final int boardSize;
+  private final int[][] directions;
+  // the slots of this board as seen by the rules of a jump, which are shared with every other
+  // type of model
+  private final JumpRules.Slots slots;
+  private long marbles;
+  private long validMoves;
+  private final MoveListeners listeners;
+
+  /**
+   * Constructor for creating a model with a specified arm thickness and the empty spot at the
+   * specified row and column.
+   *
+   * @param armThickness the number of marbles in the top row
+   * @param sRow         the row of the empty spot
+   * @param sCol         the column of the empty spot
+   * @throws IllegalArgumentException if the armThickness is an invalid length (depends on the
+   *                                  type of board) or if the specified empty space is an invalid
+   *                                  space on the board or is not on the board completely
+   */
+  protected AbstractLargeSolitaireModel(int armThickness, int sRow, int sCol)
+          throws IllegalArgumentException {
+    this.checkArmThickness(armThickness);
+    this.armThickness = armThickness;
+    this.boardSize = this.getBoardSize();
+    if (this.isOutOfBounds(sRow, sCol) || this.isInvalidSpot(sRow, sCol)) {
+      throw new IllegalArgumentException("Invalid empty cell position (" + sRow + "," + sCol + ")");
+    }
+    this.directions = this.jumpDirections();
+    this.slots = new StoredSlots();
+    this.marbles = this.generateNewBoard(sRow, sCol);
+
+    // every slot other than the empty one has a marble, so the only valid moves at the start
+    // are the ones that jump into the empty slot
+    for (int d = 0; d < this.directions.length; d++) {
+      if (JumpRules.canJump(this.slots, sRow - 2 * this.directions[d][0],
+              sCol - 2 * this.directions[d][1], d)) {
+        this.validMoves += 1;
+      }
+    }
+    this.listeners = new MoveListeners();
+  }
+
+  /**
+   * Checks to see if the specified arm thickness is invalid. The default conditions for square
+   * boards are that the arm length must be an odd integer and must be greater than or equal to 3.
+   *
+   * @param armThickness the desired number of marbles in the top row
+   * @throws IllegalArgumentException if the armThickness is not an odd integer greater than or
+   *                                  equal to 3
+   */
+  protected void checkArmThickness(int armThickness) throws IllegalArgumentException {
+    if (armThickness < 3 || (armThickness % 2 != 1)) {
+      throw new IllegalArgumentException("Arm thickness must be a positive odd number greater "
+              + "than 3!");
+    }
+  }
+
+  /**
+   * Determines if a slot specified by the row and column, which is on the board, is not a part
+   * of the valid playing area, which is any slot outside of the span of valid columns of its row.
+   *
+   * @param row the row of the slot
+   * @param col the column of the slot
+   * @return true if the slot is an invalid spot, false otherwise
+   */
+  protected boolean isInvalidSpot(int row, int col) {
+    return col < this.rowStart(row) || col >= this.rowEnd(row);
+  }
+
+  /**
+   * Returns the first column of the specified row which is a part of the valid playing area,
+   * which depends on the type of board.
+   *
+   * @param row the row of the board, which must be on the board
+   * @return the first valid column of the row
+   */
+  protected abstract int rowStart(int row);
+
+  /**
+   * Returns the column just past the last column of the specified row which is a part of the
+   * valid playing area, which depends on the type of board.
+   *
+   * @param row the row of the board, which must be on the board
+   * @return one more than the last valid column of the row
+   */
+  protected abstract int rowEnd(int row);
+
+  /**
+   * Returns the directions that a marble can jump in on this type of board, as the change in row
+   * and column of a single step in that direction. The default directions for square boards are
+   * left, right, up, and down.
+   *
+   * @return an array with the change in row and the change in column of every direction
+   */
+  protected int[][] jumpDirections() {
+    return new int[][] {{0, -1}, {0, 1}, {-1, 0}, {1, 0}};
+  }
+
+  /**
+   * Sets up the storage of the starting board, with every valid slot other than the specified
+   * empty one holding a marble.
+   *
+   * @param sRow the row of the empty slot
+   * @param sCol the column of the empty slot
+   * @return the number of marbles on the starting board
+   */
+  protected abstract long generateNewBoard(int sRow, int sCol);
+
+  /**
+   * Reads the stored state of a slot that is on the board and is a part of the playing area.
+   *
+   * @param row the row of the slot
+   * @param col the column of the slot
+   * @return the ordinal of the SlotState of the slot, which is either Empty or Marble
+   */
+  protected abstract int readSlot(int row, int col);
+
+  /**
+   * Stores the new state of a slot that is on the board and is a part of the playing area.
+   *
+   * @param row   the row of the slot
+   * @param col   the column of the slot
+   * @param state the ordinal of the new SlotState of the slot, which is either Empty or Marble
+   */
+  protected abstract void writeSlot(int row, int col, int state);
+
+  /**
+   * Makes sure that the storage of the board can still be used before any public method reads
+   * or changes the board. By default the storage can always be used.
+   *
+   * @throws IllegalStateException if the storage of the board is no longer available
+   */
+  protected void ensureOpen() throws IllegalStateException {
+    // the storage of the board can always be used unless an implementation releases it
+  }
+
+  /**
+   * Determines if a slot specified by the row and column is not on the board at all.
+   *
+   * @param row represents the row of the specified slot
+   * @param col represents the column of the specified slot
+   * @return true if the slot is out of bounds, false otherwise
+   */
+  protected boolean isOutOfBounds(int row, int col) {
+    return row < 0 || row > this.boardSize - 1 || col < 0 || col > this.boardSize - 1;
+  }
+
+  /**
+   * Determines the state of a slot that may not be on the board or may be an invalid spot.
+   *
+   * @param row the row of the slot
+   * @param col the column of the slot
+   * @return the ordinal of the SlotState of the slot, which is Invalid if it is not on the board
+   */
+  private int stateAt(int row, int col) {
+    if (this.isOutOfBounds(row, col) || this.isInvalidSpot(row, col)) {
+      return INVALID;
+    }
+    return this.readSlot(row, col);
+  }
+
+  /**
+   * This method throws an exception if any of the following are true.
+   *
+   * <ul>
+   *   <li> The from or to slot is not on the board. </li>
+   *   <li> The to slot is not exactly two slots away in one of the directions of this board. </li>
+   *   <li> The from slot or the slot in between doesn't have a marble. </li>
+   *   <li> The to slot isn't empty or is an invalid slot. </li>
+   * </ul>
+   *
+   * @throws IllegalStateException if the storage of the board is no longer available
+   */
+  @Override
+  public void move(int fromRow, int fromCol, int toRow, int toCol)
+          throws IllegalArgumentException, IllegalStateException {
+    MoveResult.requireOk(this.tryMove(fromRow, fromCol, toRow, toCol));
+  }
+
+  /**
+   * Makes the move if it is valid, finding out why it is not valid otherwise with the same checks
+   * as move, but without building an exception.
+   *
+   * @throws IllegalStateException if the storage of the board is no longer available
+   */
+  @Override
+  public int tryMove(int fromRow, int fromCol, int toRow, int toCol)
+          throws IllegalStateException {
+    this.ensureOpen();
+    int result = JumpRules.checkMove(this.slots, fromRow, fromCol, toRow, toCol);
+    if (result != MoveResult.OK) {
+      return result;
+    }
+    int overRow = (fromRow + toRow) / 2;
+    int overCol = (fromCol + toCol) / 2;
+
+    // only the moves that go through one of the three changed slots can change from valid to
+    // invalid or the other way around, so those are taken out of the count and added back once
+    // the slots have changed
+    this.validMoves -= JumpRules.countValidMovesThrough(this.slots, fromRow, fromCol, overRow,
+            overCol, toRow, toCol);
+    this.writeSlot(fromRow, fromCol, EMPTY);
+    this.writeSlot(overRow, overCol, EMPTY);
+    this.writeSlot(toRow, toCol, MARBLE);
+    this.validMoves += JumpRules.countValidMovesThrough(this.slots, fromRow, fromCol, overRow,
+            overCol, toRow, toCol);
+    this.marbles -= 1;
+    this.listeners.fireMove(fromRow, fromCol, toRow, toCol, false);
+    return MoveResult.OK;
+  }
+
+  /**
+   * Goes through every slot in the span of every row, which reads the whole board, so this is
+   * only possible on boards small enough for their moves to be packed.
+   *
+   * @throws IllegalStateException if the board is too large for its moves to be packed, or if
+   *                               the storage of the board is no longer available
+   */
+  @Override
+  public void forEachLegalMove(IntConsumer action) throws IllegalStateException {
+    this.ensureOpen();
+    PackedMove.checkBoardSize(this.boardSize);
+    for (int i = 0; i < this.boardSize; i++) {
+      for (int j = this.rowStart(i); j < this.rowEnd(i); j++) {
+        for (int d = 0; d < this.directions.length; d++) {
+          if (JumpRules.canJump(this.slots, i, j, d)) {
+            action.accept(PackedMove.pack(i, j, d, this.boardSize));
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Goes through the slots the same way as {@link #forEachLegalMove}, writing the moves straight
+   * into the array.
+   *
+   * @throws IllegalStateException if the board is too large for its moves to be packed, or if
+   *                               the storage of the board is no longer available
+   */
+  @Override
+  public int legalMoves(int[] out) throws IllegalStateException {
+    this.ensureOpen();
+    PackedMove.checkBoardSize(this.boardSize);
+    int count = 0;
+    for (int i = 0; i < this.boardSize; i++) {
+      for (int j = this.rowStart(i); j < this.rowEnd(i); j++) {
+        for (int d = 0; d < this.directions.length; d++) {
+          if (JumpRules.canJump(this.slots, i, j, d)) {
+            if (count < out.length) {
+              out[count] = PackedMove.pack(i, j, d, this.boardSize);
+            }
+            count += 1;
+          }
+        }
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public boolean addMoveListener(MoveListener listener) throws IllegalArgumentException {
+    this.listeners.add(listener);
+    return true;
+  }
+
+  @Override
+  public boolean removeMoveListener(MoveListener listener) {
+    return this.listeners.remove(listener);
+  }
+
+  /**
+   * Determines if the game is over using the number of valid moves, which is kept up to date by
+   * every move.
+   *
+   * @throws IllegalStateException if the storage of the board is no longer available
+   */
+  @Override
+  public boolean isGameOver() throws IllegalStateException {
+    this.ensureOpen();
+    return this.validMoves == 0;
+  }
+
+  @Override
+  public int getBoardSize() {
+    return this.armThickness * 3 - 2;
+  }
+
+  /**
+   * Returns the state of the slot at the specified row and column.
+   *
+   * @throws IllegalStateException if the storage of the board is no longer available
+   */
+  @Override
+  public SlotState getSlotAt(int row, int col)
+          throws IllegalArgumentException, IllegalStateException {
+    this.ensureOpen();
+    if (this.isOutOfBounds(row, col)) {
+      throw new IllegalArgumentException("Row and/or column are beyond the dimensions of the "
+              + "board!");
+    }
+    return SLOT_STATES[this.stateAt(row, col)];
+  }
+
+  /**
+   * Returns the first valid column of the specified row from the span of the row, without
+   * looking at any slots.
+   */
+  @Override
+  public int getRowStart(int row) throws IllegalArgumentException {
+    if (row < 0 || row >= this.boardSize) {
+      throw new IllegalArgumentException("Row is beyond the dimensions of the board!");
+    }
+    return this.rowStart(row);
+  }
+
+  /**
+   * Returns the column just past the last valid column of the specified row from the span of the
+   * row, without looking at any slots.
+   */
+  @Override
+  public int getRowEnd(int row) throws IllegalArgumentException {
+    if (row < 0 || row >= this.boardSize) {
+      throw new IllegalArgumentException("Row is beyond the dimensions of the board!");
+    }
+    return this.rowEnd(row);
+  }
+
+  /**
+   * Returns the number of marbles currently on the board, or Integer.MAX_VALUE if there are more
+   * marbles than an int can hold, in which case {@link #getMarbleCount} has the exact number.
+   *
+   * @return the number of marbles on the board, capped at Integer.MAX_VALUE
+   */
+  @Override
+  public int getScore() {
+    return (int) Math.min(this.marbles, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Returns the exact number of marbles currently on the board, which can be more than an int
+   * can hold on the largest boards.
+   *
+   * @return the number of marbles on the board
+   */
+  public long getMarbleCount() {
+    return this.marbles;
+  }
+
+  /**
+   * The slots of this board as seen by the rules of a jump, which works out whether a slot is
+   * valid from the span of its row and reads it from wherever the implementation stores it.
+   */
+  private final class StoredSlots implements JumpRules.Slots {
+
+    @Override
+    public int directionCount() {
+      return AbstractLargeSolitaireModel.this.directions.length;
+    }
+
+    @Override
+    public int rowStep(int d) {
+      return AbstractLargeSolitaireModel.this.directions[d][0];
+    }
+
+    @Override
+    public int colStep(int d) {
+      return AbstractLargeSolitaireModel.this.directions[d][1];
+    }
+
+    @Override
+    public boolean isOutOfBounds(int row, int col) {
+      return AbstractLargeSolitaireModel.this.isOutOfBounds(row, col);
+    }
+
+    @Override
+    public boolean isJumpOnBoard(int row, int col, int d) {
+      for (int k = 0; k < 3; k++) {
+        int slotRow = row + k * this.rowStep(d);
+        int slotCol = col + k * this.colStep(d);
+        if (this.isOutOfBounds(slotRow, slotCol)
+                || AbstractLargeSolitaireModel.this.isInvalidSpot(slotRow, slotCol)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public int readSlot(int row, int col) {
+      return AbstractLargeSolitaireModel.this.readSlot(row, col);
+    }
+  }
+}
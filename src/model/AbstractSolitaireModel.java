@@ -1,5 +1,9 @@
 package model;
 
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.IntConsumer;
+
 /**
  * An abstract class for a marble solitaire model with fields and methods that are common to all
  * implementations of a marble solitaire model.
@@ -18,8 +22,58 @@ package model;
  */
 public abstract class AbstractSolitaireModel implements MarbleSolitaireModel {
 
+  // the SlotStates are stored in the board as bytes holding their ordinal, so that the board is
+  // one contiguous array of primitives rather than rows of references
+  protected static final byte EMPTY = (byte) SlotState.Empty.ordinal();
+  protected static final byte MARBLE = (byte) SlotState.Marble.ordinal();
+  protected static final byte INVALID = (byte) SlotState.Invalid.ordinal();
+  private static final SlotState[] SLOT_STATES = SlotState.values();
+
+  // the starting board of every shape with a marble in every valid slot, which is shared by every
+  // model of that shape and never changed, so that a new or reset board is a single copy of it
+  private static final ShapeCache<byte[]> TEMPLATES = new ShapeCache<>();
+
   protected final int armThickness;
-  protected final SlotState[][] board;
+  protected final int boardSize;
+  private final byte[] template;
+  private final long templateHash;
+  protected byte[] board;
+  // the last snapshot taken of the board, which shares the board array until the next change
+  private BoardSnapshot snapshot;
+  protected final JumpTable jumps;
+  // the slots of this board as seen by the rules of a jump, which are shared with every other
+  // type of model
+  private final JumpRules.Slots slots;
+  // only looked up once this model is first asked about its symmetries
+  private SymmetryTable symmetries;
+  private int score;
+  private int validMoves;
+  // every move that can currently be made, which is only kept once a random move is first asked
+  // for, since it takes a few ints for every slot of the board
+  private LegalMoveSet legalMoveSet;
+  // the total weight of the marbles in every pagoda function of the board, which is only worked
+  // out once this model is first asked whether a position can be reached and then kept up to
+  // date by every move
+  private PagodaTable pagodas;
+  private long[] pagodaValues;
+  // the forms that split the slots into the classes of the rule of three, and whether an odd
+  // number of marbles are in each class, with bit 3 * f + v set if an odd number of marbles are
+  // in a slot where the f-th form is v modulo 3
+  private final int[][] classForms;
+  private final int templateParity;
+  private int classParity;
+
+  // the Zobrist hash of the position, which is the XOR of the key of every slot with a marble,
+  // so that a move only has to XOR in the keys of the three slots it changes
+  private long positionHash;
+
+  // the moves made so far, packed as described by PackedMove, with the moves up to historySize
+  // on the board and the ones from there up to redoSize undone but still able to be redone
+  private int[] history;
+  private int historySize;
+  private int redoSize;
+
+  private final MoveListeners listeners;
 
   /**
    * Constructor for creating a model with a specified arm thickness and the empty spot at the
@@ -36,10 +90,177 @@ public abstract class AbstractSolitaireModel implements MarbleSolitaireModel {
           throws IllegalArgumentException {
     this.checkArmThickness(armThickness);
     this.armThickness = armThickness;
-    if (this.isInvalidSpot(sRow, sCol) || this.isOutOfBounds(sRow, sCol)) {
+    this.boardSize = this.getBoardSize();
+    if (this.isOutOfBounds(sRow, sCol) || this.isInvalidSpot(sRow, sCol)) {
       throw new IllegalArgumentException("Invalid empty cell position (" + sRow + "," + sCol + ")");
     }
+    this.template = TEMPLATES.get(this, this::generateTemplate);
+    this.templateHash = this.hashTemplate();
     this.board = this.generateNewBoard(sRow, sCol);
+    this.jumps = JumpTable.of(this);
+    this.slots = new BoardSlots();
+    this.validMoves = this.countValidMovesOnBoard();
+    this.positionHash = this.templateHash ^ zobristKey(this.index(sRow, sCol));
+    this.classForms = this.classForms();
+    this.templateParity = this.parityOf(this.template);
+    this.classParity = this.templateParity ^ this.slotParity(sRow, sCol);
+    this.history = new int[16];
+    this.listeners = new MoveListeners();
+  }
+
+  /**
+   * Constructor for creating a model in exactly the same state as the specified model, sharing
+   * everything about the shape of the board with it but with a board and history of its own.
+   *
+   * @param other the model being copied
+   */
+  protected AbstractSolitaireModel(AbstractSolitaireModel other) {
+    this.armThickness = other.armThickness;
+    this.boardSize = other.boardSize;
+    this.template = other.template;
+    this.templateHash = other.templateHash;
+    this.board = other.board.clone();
+    this.jumps = other.jumps;
+    this.slots = new BoardSlots();
+    this.symmetries = other.symmetries;
+    this.score = other.score;
+    this.validMoves = other.validMoves;
+    this.pagodas = other.pagodas;
+    this.pagodaValues = other.pagodaValues == null ? null : other.pagodaValues.clone();
+    this.positionHash = other.positionHash;
+    this.classForms = other.classForms;
+    this.templateParity = other.templateParity;
+    this.classParity = other.classParity;
+    this.history = other.history.clone();
+    this.historySize = other.historySize;
+    this.redoSize = other.redoSize;
+    // the listeners of the other model are watching that model, not this one
+    this.listeners = new MoveListeners();
+  }
+
+  /**
+   * Creates a new model of the same type in exactly the same state as this one, including the
+   * moves that can be undone and redone, which can then be played without changing this model.
+   *
+   * @return a copy of this model
+   */
+  public abstract AbstractSolitaireModel copy();
+
+  /**
+   * Puts the board back to the start of a game with the empty slot at the specified row and
+   * column, forgetting every move made so far. The board is overwritten with the cached
+   * starting board of its shape, so resetting a model allocates nothing.
+   *
+   * @param sRow the row of the empty spot
+   * @param sCol the column of the empty spot
+   * @throws IllegalArgumentException if the specified empty space is an invalid space on the
+   *                                  board or is not on the board completely
+   */
+  public void reset(int sRow, int sCol) throws IllegalArgumentException {
+    if (this.isOutOfBounds(sRow, sCol) || this.isInvalidSpot(sRow, sCol)) {
+      throw new IllegalArgumentException("Invalid empty cell position (" + sRow + "," + sCol + ")");
+    }
+    this.ensureOwnBoard();
+    System.arraycopy(this.template, 0, this.board, 0, this.board.length);
+    this.board[this.index(sRow, sCol)] = EMPTY;
+    this.score = this.countValidSlots() - 1;
+    this.validMoves = this.countValidMovesInto(sRow, sCol);
+    if (this.legalMoveSet != null) {
+      // the only moves on a new board are the ones into the empty slot
+      this.legalMoveSet.clear();
+      for (int d = 0; d < this.jumps.directionCount(); d++) {
+        this.updateLegalMove(sRow - 2 * this.jumps.rowStep(d), sCol - 2 * this.jumps.colStep(d),
+                d);
+      }
+    }
+    // the pagoda values are added up again the next time they are needed
+    this.pagodaValues = null;
+    this.positionHash = this.templateHash ^ zobristKey(this.index(sRow, sCol));
+    this.classParity = this.templateParity ^ this.slotParity(sRow, sCol);
+    this.historySize = 0;
+    this.redoSize = 0;
+    this.listeners.fireBoardChanged();
+  }
+
+  /**
+   * Puts the board in the position at the end of a perfect game, with a single marble at the
+   * specified row and column and every other valid slot empty, forgetting every move made so
+   * far. Playing backwards from here with {@link #unjump} only ever reaches positions that can
+   * be won by getting back to this one.
+   *
+   * @param row the row of the marble
+   * @param col the column of the marble
+   * @throws IllegalArgumentException if the specified slot is an invalid space on the board or
+   *                                  is not on the board completely
+   */
+  public void resetToSingleMarble(int row, int col) throws IllegalArgumentException {
+    if (this.isOutOfBounds(row, col) || this.isInvalidSpot(row, col)) {
+      throw new IllegalArgumentException("Invalid marble position (" + row + "," + col + ")");
+    }
+    this.ensureOwnBoard();
+    for (int i = 0; i < this.boardSize; i++) {
+      int rowIndex = this.index(i, 0);
+      Arrays.fill(this.board, rowIndex + this.rowStart(i), rowIndex + this.rowEnd(i), EMPTY);
+    }
+    int index = this.index(row, col);
+    this.board[index] = MARBLE;
+    this.score = 1;
+    // a single marble has nothing to jump over
+    this.validMoves = 0;
+    if (this.legalMoveSet != null) {
+      this.legalMoveSet.clear();
+    }
+    if (this.pagodaValues != null) {
+      for (int k = 0; k < this.pagodaValues.length; k++) {
+        this.pagodaValues[k] = this.pagodas.weight(k, row, col);
+      }
+    }
+    this.positionHash = zobristKey(index);
+    this.classParity = this.slotParity(row, col);
+    this.historySize = 0;
+    this.redoSize = 0;
+    this.listeners.fireBoardChanged();
+  }
+
+  /**
+   * Takes an immutable snapshot of the board, which can be read and rendered on any thread while
+   * this model keeps being played. Taking a snapshot copies nothing, since the snapshot shares the
+   * board of this model and this model copies its board before the next change instead. Taking
+   * more than one snapshot without a change in between returns the same one.
+   *
+   * <p>
+   *   The snapshot has to be taken on the thread that plays the game, which can then hand it to
+   *   any number of other threads without them ever waiting on it.
+   * </p>
+   *
+   * @return a snapshot of the slots and the score of this model as they are now
+   */
+  public BoardSnapshot snapshot() {
+    if (this.snapshot == null) {
+      this.snapshot = new BoardSnapshot(this, this.board, this.score);
+    }
+    return this.snapshot;
+  }
+
+  /**
+   * Makes sure that the board array is not shared with a snapshot before a slot is changed, by
+   * giving this model its own copy of it if it is.
+   */
+  private void ensureOwnBoard() {
+    if (this.snapshot != null) {
+      this.board = this.board.clone();
+      this.snapshot = null;
+    }
+  }
+
+  /**
+   * Returns the key of the shape of this board, which only depends on the type of board and its
+   * arm thickness, for caching what is known about the shape.
+   *
+   * @return the key of the shape of this board
+   */
+  String shapeKey() {
+    return this.getClass().getName() + ":" + this.armThickness;
   }
 
   /**
@@ -60,7 +281,9 @@ public abstract class AbstractSolitaireModel implements MarbleSolitaireModel {
 
   /**
    * Determines if a slot specified by the row and column represents an invalid spot on the board
-   * (in the 2D array but not part of the valid playing area).
+   * (in the 2D array but not part of the valid playing area). The valid slots of every row of
+   * every board are one run of columns, so a slot is invalid if it is outside of the span of its
+   * row.
    *
    * @param row the row of the slot
    * @param col the column of the slot
@@ -68,7 +291,27 @@ public abstract class AbstractSolitaireModel implements MarbleSolitaireModel {
    *         invalid spot, meaning that it is on the board but not a part of the valid playing
    *         area. Returns true if it is not on the board, false otherwise.
    */
-  protected abstract boolean isInvalidSpot(int row, int col);
+  protected boolean isInvalidSpot(int row, int col) {
+    return col < this.rowStart(row) || col >= this.rowEnd(row);
+  }
+
+  /**
+   * Returns the first column of the specified row which is a part of the valid playing area,
+   * which depends on the type of board.
+   *
+   * @param row the row of the board, which must be on the board
+   * @return the first valid column of the row
+   */
+  protected abstract int rowStart(int row);
+
+  /**
+   * Returns the column just past the last column of the specified row which is a part of the
+   * valid playing area, which depends on the type of board.
+   *
+   * @param row the row of the board, which must be on the board
+   * @return one more than the last valid column of the row
+   */
+  protected abstract int rowEnd(int row);
 
   /**
    * Determines if a slot specified by the row and column is not on the board at all (not
@@ -86,37 +329,293 @@ public abstract class AbstractSolitaireModel implements MarbleSolitaireModel {
   }
 
   /**
-   * Generates the starting board with the correct SlotState at every position in the 2D array of
-   * SlotStates (Invalid SlotStates in the required spots based on the board, and the Empty
-   * SlotState at the specified row and column).
+   * Returns the directions that a marble can jump in on this type of board, as the change in row
+   * and column of a single step in that direction. The default directions for square boards are
+   * left, right, up, and down, in the same order as the directions of {@link PackedMove}.
+   *
+   * @return an array with the change in row and the change in column of every direction
+   */
+  protected int[][] jumpDirections() {
+    return new int[][] {{0, -1}, {0, 1}, {-1, 0}, {1, 0}};
+  }
+
+  /**
+   * Returns the slots that the Fibonacci pagoda functions of this type of board are centered on,
+   * as described by {@link PagodaTable}. A target near one of these slots weighs a lot in its
+   * pagoda function, so marbles far away from it cannot reach it. The default slots for square
+   * boards are the middle of the board and the middle of the outer edge of each of the 4 arms.
+   *
+   * @return an array with the row and the column of every anchor slot
+   */
+  protected int[][] pagodaAnchors() {
+    int mid = (this.boardSize - 1) / 2;
+    int last = this.boardSize - 1;
+    return new int[][] {{mid, mid}, {0, mid}, {last, mid}, {mid, 0}, {mid, last}};
+  }
+
+  /**
+   * Returns the forms a * row + b * col that split the slots of this type of board into the
+   * classes of the rule of three, as the pairs a and b. The three slots of every jump have a
+   * different value of each form modulo 3, so every jump changes the number of marbles in every
+   * class by one. The default forms for square boards are row + col and row - col, written as
+   * row + 2 * col, which split the slots into 16 position classes.
+   *
+   * @return an array with the coefficient of the row and of the column of every form
+   */
+  protected int[][] classForms() {
+    return new int[][] {{1, 1}, {1, 2}};
+  }
+
+  /**
+   * Returns the number of symmetries of this type of board, which are the rotations and
+   * reflections that map the valid board onto itself. The default for square boards is 8, made
+   * of the 4 rotations and the reflections across the 2 middle lines and the 2 diagonals.
+   *
+   * @return the number of symmetries, the first of which is always the identity
+   */
+  public int symmetryCount() {
+    return 8;
+  }
+
+  /**
+   * Returns the row that the specified symmetry moves a slot to. The default symmetries for
+   * square boards are the identity, the rotations by 90, 180, and 270 degrees clockwise, the
+   * reflections that swap the left and right sides and the top and bottom, and the reflections
+   * across the main diagonal and the other diagonal, in that order.
+   *
+   * @param transform the index of the symmetry
+   * @param row       the row of the slot
+   * @param col       the column of the slot
+   * @return the row of the slot after the symmetry
+   */
+  protected int transformRow(int transform, int row, int col) {
+    int last = this.boardSize - 1;
+    switch (transform) {
+      case 1:
+      case 6:
+        return col;
+      case 2:
+      case 5:
+        return last - row;
+      case 3:
+      case 7:
+        return last - col;
+      default:
+        return row;
+    }
+  }
+
+  /**
+   * Returns the column that the specified symmetry moves a slot to, with the same symmetries as
+   * {@link #transformRow}.
+   *
+   * @param transform the index of the symmetry
+   * @param row       the row of the slot
+   * @param col       the column of the slot
+   * @return the column of the slot after the symmetry
+   */
+  protected int transformCol(int transform, int row, int col) {
+    int last = this.boardSize - 1;
+    switch (transform) {
+      case 1:
+      case 7:
+        return last - row;
+      case 2:
+      case 4:
+        return last - col;
+      case 3:
+      case 6:
+        return row;
+      default:
+        return col;
+    }
+  }
+
+  /**
+   * Returns the number of slots stored in the board array. The default for square boards is
+   * every slot of the square, including the invalid ones.
+   *
+   * @return the length of the board array
+   */
+  protected int slotCount() {
+    return this.boardSize * this.boardSize;
+  }
+
+  /**
+   * Returns the number of slots stored in the board array for the specified row, which are the
+   * slots from the first column up to but not including this length. The default for square
+   * boards is the whole row.
+   *
+   * @param row the row of the board
+   * @return the number of slots stored for this row
+   */
+  protected int storedRowLength(int row) {
+    return this.boardSize;
+  }
+
+  /**
+   * Determines the position of the slot specified by the row and column in the board array, which
+   * stores the rows of the board one after another. The slot must be one of the stored slots of
+   * its row.
+   *
+   * @param row the row of the slot
+   * @param col the column of the slot
+   * @return the index of the slot in the board array
+   */
+  protected int index(int row, int col) {
+    return row * this.boardSize + col;
+  }
+
+  /**
+   * Determines whether the slot specified by the row and column is on the board and stored in
+   * the board array, which every slot that is not an invalid spot is.
+   *
+   * @param row the row of the slot
+   * @param col the column of the slot
+   * @return true if the slot has an index in the board array, false otherwise
+   */
+  private boolean isStored(int row, int col) {
+    return !this.isOutOfBounds(row, col) && col < this.storedRowLength(row);
+  }
+
+  /**
+   * Generates the starting board with the correct SlotState at every position in the array of
+   * slots (Invalid SlotStates in the required spots based on the board, and the Empty SlotState
+   * at the specified row and column) by copying the cached starting board of this shape.
    *
    * @param sRow the row of the empty slot
    * @param sCol the column of the empty slot
-   * @return a 2D array of SlotStates with the correct SlotState at every position in the 2D
-   *         array to represent all the marbles, all the correct invalid spots, and the specified
-   *         empty spot
-   */
-  protected SlotState[][] generateNewBoard(int sRow, int sCol) {
-    int boardSize = this.getBoardSize();
-
-    SlotState[][] board = new SlotState[boardSize][boardSize];
-    for (int i = 0; i < boardSize; i++) {
-      for (int j = 0; j < boardSize; j++) {
-        // if the slot at this row and col , set its SlotState to invalid
-        if (this.isInvalidSpot(i, j)) {
-          board[i][j] = SlotState.Invalid;
-        }
-        // if this slot is at the specified empty location, set its SlotState to Empty
-        else if (i == sRow && j == sCol) {
-          board[sRow][sCol] = SlotState.Empty;
-        }
-        // a remaining slot, set its SlotState to Marble
-        else {
-          board[i][j] = SlotState.Marble;
+   * @return an array with the correct SlotState ordinal at the index of every slot to represent
+   *         all the marbles, all the correct invalid spots, and the specified empty spot. Also
+   *         sets the score of this model to the number of marbles placed.
+   */
+  protected byte[] generateNewBoard(int sRow, int sCol) {
+    byte[] board = this.template.clone();
+    // taking the marble out of the specified empty slot
+    board[this.index(sRow, sCol)] = EMPTY;
+    this.score = this.countValidSlots() - 1;
+    return board;
+  }
+
+  /**
+   * Generates the board of this shape with a marble in every valid slot, which every starting
+   * board is a copy of.
+   *
+   * @return an array with the Marble ordinal at the index of every valid slot and the Invalid
+   *         ordinal at the index of every other slot
+   */
+  private byte[] generateTemplate() {
+    byte[] template = new byte[this.slotCount()];
+    for (int i = 0; i < this.boardSize; i++) {
+      int rowIndex = this.index(i, 0);
+      int start = this.rowStart(i);
+      int end = this.rowEnd(i);
+      // filling the invalid slots before and after the span of the row, and every slot of the
+      // span with a marble
+      Arrays.fill(template, rowIndex, rowIndex + start, INVALID);
+      Arrays.fill(template, rowIndex + start, rowIndex + end, MARBLE);
+      Arrays.fill(template, rowIndex + end, rowIndex + this.storedRowLength(i), INVALID);
+    }
+    return template;
+  }
+
+  /**
+   * Hashes the board of this shape with a marble in every valid slot, which the hash of every
+   * starting board is found from by taking out the key of its empty slot.
+   *
+   * @return the XOR of the Zobrist keys of every valid slot
+   */
+  private long hashTemplate() {
+    long hash = 0;
+    for (int i = 0; i < this.boardSize; i++) {
+      for (int j = this.rowStart(i); j < this.rowEnd(i); j++) {
+        hash ^= zobristKey(this.index(i, j));
+      }
+    }
+    return hash;
+  }
+
+  /**
+   * Finds which classes of the rule of three have an odd number of marbles in the specified
+   * board of this shape.
+   *
+   * @param board a board array of this shape
+   * @return the parity of the number of marbles in every class, as described by classParity
+   */
+  private int parityOf(byte[] board) {
+    int parity = 0;
+    for (int i = 0; i < this.boardSize; i++) {
+      for (int j = this.rowStart(i); j < this.rowEnd(i); j++) {
+        if (board[this.index(i, j)] == MARBLE) {
+          parity ^= this.slotParity(i, j);
         }
       }
     }
-    return board;
+    return parity;
+  }
+
+  /**
+   * Returns the classes of the rule of three that the specified slot is in, one for every form.
+   *
+   * @param row the row of the slot
+   * @param col the column of the slot
+   * @return the parity of a board with a single marble at the slot
+   */
+  private int slotParity(int row, int col) {
+    int parity = 0;
+    for (int f = 0; f < this.classForms.length; f++) {
+      int value = this.classForms[f][0] * row + this.classForms[f][1] * col;
+      parity |= 1 << (3 * f + Math.floorMod(value, 3));
+    }
+    return parity;
+  }
+
+  /**
+   * Turns the parity of the number of marbles in every class into the position class, which
+   * keeps for every form whether the first and second classes and the second and third classes
+   * have the same parity. Flipping all three parities of a form leaves this the same, so no jump
+   * ever changes it.
+   *
+   * @param parity the parity of the number of marbles in every class
+   * @return the position class, with 2 bits for every form
+   */
+  private int classOf(int parity) {
+    int positionClass = 0;
+    for (int f = 0; f < this.classForms.length; f++) {
+      int bits = parity >> 3 * f;
+      positionClass |= ((bits ^ bits >> 1) & 3) << 2 * f;
+    }
+    return positionClass;
+  }
+
+  /**
+   * Returns the Zobrist key of the slot at the specified index of the board array. The keys are
+   * found by mixing the bits of the index rather than kept in a table of random numbers, so they
+   * take no memory and are the same for every model, which lets the hashes of two models be
+   * compared.
+   *
+   * @param index the index of the slot in the board array
+   * @return the 64 bit key of the slot
+   */
+  private static long zobristKey(int index) {
+    // the finalizer of SplitMix64, which spreads every bit of the index over the whole key
+    long key = (index + 1) * 0x9E3779B97F4A7C15L;
+    key = (key ^ (key >>> 30)) * 0xBF58476D1CE4E5B9L;
+    key = (key ^ (key >>> 27)) * 0x94D049BB133111EBL;
+    return key ^ (key >>> 31);
+  }
+
+  /**
+   * Counts the valid slots of the board from the span of every row.
+   *
+   * @return the number of slots that are a part of the playing area
+   */
+  private int countValidSlots() {
+    int count = 0;
+    for (int i = 0; i < this.boardSize; i++) {
+      count += this.rowEnd(i) - this.rowStart(i);
+    }
+    return count;
   }
 
   /**
@@ -135,181 +634,1095 @@ public abstract class AbstractSolitaireModel implements MarbleSolitaireModel {
    */
   @Override
   public void move(int fromRow, int fromCol, int toRow, int toCol) throws IllegalArgumentException {
-    // either the from or to slot are not on the board
-    if (this.isOutOfBounds(fromRow, fromCol) || this.isOutOfBounds(toRow, toCol)) {
-      throw new IllegalArgumentException("Either the from or to slot is not on the board!");
-    }
+    MoveResult.requireOk(this.tryMove(fromRow, fromCol, toRow, toCol));
+  }
+
+  /**
+   * Makes the move if it is valid, finding out why it is not valid otherwise with the same checks
+   * as move, but without building an exception.
+   */
+  @Override
+  public int tryMove(int fromRow, int fromCol, int toRow, int toCol) {
+    int result = this.checkMove(fromRow, fromCol, toRow, toCol);
     // if this is a valid move, then change the SlotStates of the from slot, the to
     // slot, and the slot in between to its appropriate SlotStates
-    if (this.isValidMove(fromRow, fromCol, toRow, toCol)) {
-      this.board[fromRow][fromCol] = SlotState.Empty;
-      this.board[(fromRow + toRow) / 2][(fromCol + toCol) / 2] = SlotState.Empty;
-      this.board[toRow][toCol] = SlotState.Marble;
+    if (result == MoveResult.OK) {
+      this.makeJump(fromRow, fromCol, toRow, toCol,
+              this.jumps.directionOf(fromRow, fromCol, toRow, toCol));
     }
-    // the move from the from slot to the to slot is not valid
-    else {
-      throw new IllegalArgumentException("This is not a valid move!");
+    return result;
+  }
+
+  /**
+   * Makes the moves in the specified part of the array one after another, checking each of them
+   * against the board left by the ones before it, and stops at the first move that is not valid.
+   * A packed move already says which jump it is, so each move is checked and made straight from
+   * the jump table without working out its direction again.
+   */
+  @Override
+  public int applyMoves(int[] packedMoves, int offset, int count)
+          throws IllegalArgumentException, IllegalStateException {
+    PackedMove.checkRange(packedMoves, offset, count);
+    PackedMove.checkBoardSize(this.boardSize);
+    for (int i = 0; i < count; i++) {
+      int move = packedMoves[offset + i];
+      int cell = PackedMove.cell(move);
+      int direction = PackedMove.direction(move);
+      int fromRow = cell / this.boardSize;
+      int fromCol = cell % this.boardSize;
+      if (direction >= this.jumps.directionCount()
+              || !this.isJumpOnBoard(fromRow, fromCol, direction)
+              || !this.isValidJump(fromRow, fromCol, direction)) {
+        return i;
+      }
+      this.makeJump(fromRow, fromCol, fromRow + 2 * this.jumps.rowStep(direction),
+              fromCol + 2 * this.jumps.colStep(direction), direction);
     }
+    return count;
   }
 
   /**
-   * Determines if a move from the position specified by the fromRow and fromCol to the position
-   * specified by the toRow and toColumn is a valid move.
+   * Makes a move that is known to be valid by changing the SlotStates of the from slot, the to
+   * slot, and the slot in between, and then records it and tells the listeners about it.
    *
-   * @param fromRow the row of the from slot in the move
-   * @param fromCol the column of the from slot in the move
-   * @param toRow   the row of the to slot in the move
-   * @param toCol   the column of the to slot in the move
-   * @return a boolean representing whether the move specified by the parameters is valid.
-   *         Returns true if it is a valid move, false otherwise
-   */
-  protected boolean isValidMove(int fromRow, int fromCol, int toRow, int toCol) {
-    // Making sure that the from slot has a marble, the slot in between has a marble, and the
-    // to slot is empty. This does not guarantee that the to slot is only two slots away
-    // but this check comes later in another helper method.
-    if (!(this.board[fromRow][fromCol] == SlotState.Marble
-            && this.board[(fromRow + toRow) / 2][(fromCol + toCol) / 2] == SlotState.Marble
-            && this.board[toRow][toCol] == SlotState.Empty)) {
-      return false;
+   * @param fromRow   the row of the from slot of the move
+   * @param fromCol   the column of the from slot of the move
+   * @param toRow     the row of the to slot of the move
+   * @param toCol     the column of the to slot of the move
+   * @param direction the index of the direction of the move
+   */
+  private void makeJump(int fromRow, int fromCol, int toRow, int toCol, int direction) {
+    this.setJumpSlots(fromRow, fromCol, toRow, toCol, EMPTY, MARBLE);
+    // every move removes exactly one marble from the board
+    this.score -= 1;
+    this.recordMove(fromRow, fromCol, direction);
+    this.listeners.fireMove(fromRow, fromCol, toRow, toCol, false);
+  }
+
+  /**
+   * Changes the three slots of a jump, keeping the number of valid moves and the hash of the
+   * position up to date. Making a move empties the from slot and the slot in between and fills
+   * the to slot, and undoing it does the opposite.
+   *
+   * @param fromRow   the row of the from slot of the jump
+   * @param fromCol   the column of the from slot of the jump
+   * @param toRow     the row of the to slot of the jump
+   * @param toCol     the column of the to slot of the jump
+   * @param fromState the new state of the from slot and the slot in between
+   * @param toState   the new state of the to slot
+   */
+  private void setJumpSlots(int fromRow, int fromCol, int toRow, int toCol, byte fromState,
+                            byte toState) {
+    int overRow = (fromRow + toRow) / 2;
+    int overCol = (fromCol + toCol) / 2;
+    int fromIndex = this.index(fromRow, fromCol);
+    int overIndex = this.index(overRow, overCol);
+    int toIndex = this.index(toRow, toCol);
+    // only the moves that go through one of the three changed slots can change from valid to
+    // invalid or the other way around, so those are taken out of the count and added back once
+    // the slots have changed
+    this.validMoves -= JumpRules.countValidMovesThrough(this.slots, fromRow, fromCol, overRow,
+            overCol, toRow, toCol);
+    this.ensureOwnBoard();
+    this.board[fromIndex] = fromState;
+    this.board[overIndex] = fromState;
+    this.board[toIndex] = toState;
+    // every jump adds or takes away one marble in every class, so every parity flips
+    this.classParity ^= (1 << 3 * this.classForms.length) - 1;
+    // every one of the three slots goes from having a marble to not having one or the other way
+    // around, so each of their keys goes in or out of the hash
+    this.positionHash ^= zobristKey(fromIndex) ^ zobristKey(overIndex) ^ zobristKey(toIndex);
+    this.validMoves += JumpRules.countValidMovesThrough(this.slots, fromRow, fromCol, overRow,
+            overCol, toRow, toCol);
+    if (this.legalMoveSet != null) {
+      this.updateLegalMovesThrough(fromRow, fromCol, overRow, overCol, toRow, toCol);
     }
-    // Checking to see if the move is a valid horizontal or vertical move
-    else {
-      return this.isValidHorizontalMove(fromRow, fromCol, toRow, toCol)
-              || this.isValidVerticalMove(fromRow, fromCol, toRow, toCol);
+    if (this.pagodaValues != null) {
+      for (int k = 0; k < this.pagodaValues.length; k++) {
+        long change = this.pagodas.weight(k, toRow, toCol)
+                - this.pagodas.weight(k, fromRow, fromCol)
+                - this.pagodas.weight(k, overRow, overCol);
+        // a jump backwards takes away what the same jump forwards adds
+        this.pagodaValues[k] += fromState == EMPTY ? change : -change;
+      }
     }
   }
 
   /**
-   * Determines if a move from the position specified by the fromRow and fromCol to the position
-   * specified by the toRow and toColumn is a valid horizontal move. A valid horizontal move has
-   * the same fromRow and toRow and the toCol must be 2 slots away from the fromCol in one of the
-   * horizontal directions.
+   * Pushes a move that was just made onto the history, which forgets the moves that were undone
+   * since they can no longer be redone. Boards too large for their moves to be packed do not
+   * keep a history.
    *
-   * @param fromRow the row of the from slot in the move
-   * @param fromCol the column of the from slot in the move
-   * @param toRow   the row of the to slot in the move
-   * @param toCol   the column of the to slot in the move
-   * @return a boolean representing whether the horizontal move specified by the
-   *         parameters is valid. Returns true if it is a valid horizontal move, false
-   *         otherwise.
+   * @param fromRow   the row of the from slot of the move
+   * @param fromCol   the column of the from slot of the move
+   * @param direction the index of the direction of the move
    */
-  protected boolean isValidHorizontalMove(int fromRow, int fromCol, int toRow, int toCol) {
-    return fromRow == toRow && Math.abs(fromCol - toCol) == 2;
+  private void recordMove(int fromRow, int fromCol, int direction) {
+    if (this.boardSize > PackedMove.MAX_BOARD_SIZE) {
+      return;
+    }
+    if (this.historySize == this.history.length) {
+      this.history = Arrays.copyOf(this.history, this.history.length * 2);
+    }
+    this.history[this.historySize] = PackedMove.pack(fromRow, fromCol, direction, this.boardSize);
+    this.historySize += 1;
+    this.redoSize = this.historySize;
   }
 
   /**
-   * Determines if a move from the position specified by the fromRow and fromCol to the position
-   * specified by the toRow and toColumn is a valid vertical move. A valid vertical move has
-   * the same fromCol and toCol and the toRow must be 2 slots away from the fromRow in one of the
-   * vertical directions.
-   *
-   * @param fromRow the row of the from slot in the move
-   * @param fromCol the column of the from slot in the move
-   * @param toRow   the row of the to slot in the move
-   * @param toCol   the column of the to slot in the move
-   * @return a boolean representing whether the vertical move specified by the
-   *         parameters is valid. Returns true if it is a valid vertical move, false
-   *         otherwise.
+   * Takes back the last move made on the board by putting back the marbles of its from slot and
+   * slot in between and emptying its to slot, which only changes those three slots. Boards larger
+   * than {@link PackedMove#MAX_BOARD_SIZE} keep no history of their moves, so undo always returns
+   * false on them.
    */
-  protected boolean isValidVerticalMove(int fromRow, int fromCol, int toRow, int toCol) {
-    return toCol == fromCol && Math.abs(fromRow - toRow) == 2;
+  @Override
+  public boolean undo() {
+    if (this.historySize == 0) {
+      return false;
+    }
+    this.historySize -= 1;
+    int move = this.history[this.historySize];
+    int fromRow = PackedMove.fromRow(move, this.boardSize);
+    int fromCol = PackedMove.fromCol(move, this.boardSize);
+    int toRow = PackedMove.toRow(move, this.boardSize);
+    int toCol = PackedMove.toCol(move, this.boardSize);
+    this.setJumpSlots(fromRow, fromCol, toRow, toCol, MARBLE, EMPTY);
+    this.score += 1;
+    this.listeners.fireMove(fromRow, fromCol, toRow, toCol, true);
+    return true;
   }
 
+  /**
+   * Makes the last move that was undone again, which is known to be valid since the board is
+   * exactly as it was when the move was first made.
+   */
   @Override
-  public boolean isGameOver() {
-    return !this.anyValidMovesOnBoard();
+  public boolean redo() {
+    if (this.historySize == this.redoSize) {
+      return false;
+    }
+    int move = this.history[this.historySize];
+    this.historySize += 1;
+    int fromRow = PackedMove.fromRow(move, this.boardSize);
+    int fromCol = PackedMove.fromCol(move, this.boardSize);
+    int toRow = PackedMove.toRow(move, this.boardSize);
+    int toCol = PackedMove.toCol(move, this.boardSize);
+    this.setJumpSlots(fromRow, fromCol, toRow, toCol, EMPTY, MARBLE);
+    this.score -= 1;
+    this.listeners.fireMove(fromRow, fromCol, toRow, toCol, false);
+    return true;
+  }
+
+  /**
+   * Plays a move backwards, taking the marble off its to slot and putting marbles back in its
+   * from slot and the slot in between, which is only possible if the to slot has a marble and
+   * the other two slots are empty. The move is packed the same way as the forward moves, so
+   * unjumping a move that was just made puts the board back the way it was before it.
+   *
+   * <p>
+   *   Unlike {@link #undo}, the move does not have to be one that was made on this board, so the
+   *   moves that could be undone or redone no longer lead to this board and are forgotten.
+   * </p>
+   *
+   * @param move the move being played backwards, packed as described by {@link PackedMove}
+   * @return true if the move was played backwards, false if it cannot be on this board
+   * @throws IllegalStateException if this board is too large for its moves to be packed
+   */
+  public boolean unjump(int move) throws IllegalStateException {
+    PackedMove.checkBoardSize(this.boardSize);
+    int cell = PackedMove.cell(move);
+    int direction = PackedMove.direction(move);
+    int fromRow = cell / this.boardSize;
+    int fromCol = cell % this.boardSize;
+    if (direction >= this.jumps.directionCount()
+            || !this.isJumpOnBoard(fromRow, fromCol, direction)
+            || !this.isValidUnjump(fromRow, fromCol, direction)) {
+      return false;
+    }
+    int toRow = fromRow + 2 * this.jumps.rowStep(direction);
+    int toCol = fromCol + 2 * this.jumps.colStep(direction);
+    this.setJumpSlots(fromRow, fromCol, toRow, toCol, MARBLE, EMPTY);
+    // every move played backwards puts one more marble on the board
+    this.score += 1;
+    this.historySize = 0;
+    this.redoSize = 0;
+    this.listeners.fireMove(fromRow, fromCol, toRow, toCol, true);
+    return true;
   }
 
   /**
-   * Determines if there is any valid moves left on the board.
+   * Gives every move that can currently be played backwards with {@link #unjump} to the
+   * specified action, packed as described by {@link PackedMove} and in the same order as
+   * {@link #forEachLegalMove}.
    *
-   * @return a boolean representing whether there are any valid moves left on the board. Returns
-   *         true if there are any valid moves left, false otherwise.
+   * @param action the action called with every move that can be played backwards
+   * @throws IllegalStateException if this board is too large for its moves to be packed
    */
-  private boolean anyValidMovesOnBoard() {
-    // the acc starts off as false to represent that there are no valid moves to begin with, and
-    // we will accumulate this with booleans representing whether every slot has a valid move
-    boolean acc = false;
-    for (int i = 0; i < this.getBoardSize(); i++) {
-      for (int j = 0; j < this.getBoardSize(); j++) {
-        if (this.board[i][j] == SlotState.Marble) {
-          boolean b = this.slotHasValidMoves(i, j);
-          // if there is a valid move, then the acc will change to true
-          acc = acc || b;
+  public void forEachReverseMove(IntConsumer action) throws IllegalStateException {
+    PackedMove.checkBoardSize(this.boardSize);
+    for (int i = 0; i < this.boardSize; i++) {
+      for (int j = this.rowStart(i); j < this.rowEnd(i); j++) {
+        int index = this.index(i, j);
+        // the from slot of a move played backwards is empty before it is played
+        if (this.board[index] != EMPTY) {
+          continue;
         }
-        // if the accumulator is ever changed to true, then we don't need to loop anymore since
-        // there is at least one valid move remaining, so we return true
-        if (acc) {
-          return true;
+        int directions = this.jumps.jumpsFrom(index);
+        for (int d = 0; directions != 0; d++, directions >>>= 1) {
+          if ((directions & 1) != 0 && this.isValidUnjump(i, j, d)) {
+            action.accept(PackedMove.pack(i, j, d, this.boardSize));
+          }
         }
       }
     }
-    // if we go through the entire loop without the acc every changing to true, that means that
-    // there are no valid moves for any slot on the entire board, and we return false
-    return false;
   }
 
   /**
-   * Determines whether this specific slot, specified by the row and column, has at least one
-   * valid move in any direction.
+   * Writes every move that can currently be played backwards into the specified array, in the
+   * same order as {@link #forEachReverseMove}. If there are more of them than the array can
+   * hold, only the first ones are written, but all of them are counted.
    *
-   * @param row the row of the specified slot whose moves we are looking at
-   * @param col the column of the specified slot whose moves we are looking at
-   * @return a boolean representing whether the slot specified by the row and column has a
-   *         valid move in any direction. Returns true if this slot has any valid moves,
-   *         false otherwise.
+   * @param out the array that the moves are written to, starting at index 0
+   * @return the number of moves that can be played backwards, which may be more than the length
+   *         of the array
+   * @throws IllegalStateException if this board is too large for its moves to be packed
    */
-  protected boolean slotHasValidMoves(int row, int col) {
-    // initializing the booleans representing moves in every direction to false, if there is
-    // a valid move in any direction, the local variable will change to true
-    boolean leftMove = false;
-    boolean rightMove = false;
-    boolean upMove = false;
-    boolean downMove = false;
-    // if the spot two to the left is on the board, then check to see if moving left is valid
-    if (!this.isOutOfBounds(row, col - 2)) {
-      leftMove = this.isValidMove(row, col, row, col - 2);
-    }
-    // if the spot two to the right is on the board, then check to see if moving right is valid
-    if (!this.isOutOfBounds(row, col + 2)) {
-      rightMove = this.isValidMove(row, col, row, col + 2);
-    }
-    // if the spot two to the top is on the board, then check to see if moving up is valid
-    if (!this.isOutOfBounds(row - 2, col)) {
-      upMove = this.isValidMove(row, col, row - 2, col);
-    }
-    // if the spot two to the bottom is on the board, then check to see if moving down is valid
-    if (!this.isOutOfBounds(row + 2, col)) {
-      downMove = this.isValidMove(row, col, row + 2, col);
+  public int reverseMoves(int[] out) throws IllegalStateException {
+    PackedMove.checkBoardSize(this.boardSize);
+    int count = 0;
+    for (int i = 0; i < this.boardSize; i++) {
+      for (int j = this.rowStart(i); j < this.rowEnd(i); j++) {
+        int index = this.index(i, j);
+        if (this.board[index] != EMPTY) {
+          continue;
+        }
+        int directions = this.jumps.jumpsFrom(index);
+        for (int d = 0; directions != 0; d++, directions >>>= 1) {
+          if ((directions & 1) != 0 && this.isValidUnjump(i, j, d)) {
+            if (count < out.length) {
+              out[count] = PackedMove.pack(i, j, d, this.boardSize);
+            }
+            count += 1;
+          }
+        }
+      }
     }
-    return leftMove || rightMove || upMove || downMove;
+    return count;
   }
 
-  @Override
-  public int getBoardSize() {
-    return this.armThickness * 3 - 2;
+  /**
+   * Determines whether a jump from the specified slot in the specified direction, which is known
+   * to stay on the valid board, can currently be played backwards.
+   *
+   * @param row the row of the from slot of the jump
+   * @param col the column of the from slot of the jump
+   * @param d   the index of the direction of the jump
+   * @return true if the from slot and the slot in between are empty and the to slot has a marble
+   */
+  private boolean isValidUnjump(int row, int col, int d) {
+    int rowStep = this.jumps.rowStep(d);
+    int colStep = this.jumps.colStep(d);
+    return this.board[this.index(row, col)] == EMPTY
+            && this.board[this.index(row + rowStep, col + colStep)] == EMPTY
+            && this.board[this.index(row + 2 * rowStep, col + 2 * colStep)] == MARBLE;
   }
 
-  @Override
-  public SlotState getSlotAt(int row, int col) throws IllegalArgumentException {
-    if (this.isOutOfBounds(row, col)) {
-      throw new IllegalArgumentException("Row and/or column are beyond the dimensions of the "
-              + "board!");
-    } else {
-      return this.board[row][col];
-    }
+  /**
+   * Determines if a move from the position specified by the fromRow and fromCol to the position
+   * specified by the toRow and toColumn is a valid move by the rules every model shares, using
+   * the jump table of this board to check that the to slot is two steps away in one of the
+   * directions of this board and that every slot involved is a valid slot.
+   *
+   * @param fromRow the row of the from slot in the move
+   * @param fromCol the column of the from slot in the move
+   * @param toRow   the row of the to slot in the move
+   * @param toCol   the column of the to slot in the move
+   * @return {@link MoveResult#OK} if it is a valid move, or the result code of the first check
+   *         that the move fails otherwise
+   */
+  protected int checkMove(int fromRow, int fromCol, int toRow, int toCol) {
+    return JumpRules.checkMove(this.slots, fromRow, fromCol, toRow, toCol);
   }
 
+  /**
+   * Determines if the game is over using the number of valid moves on the board, which is kept up
+   * to date by every move rather than found by searching the board.
+   *
+   * @return true if there are no valid moves left on the board, false otherwise
+   */
   @Override
-  public int getScore() {
+  public boolean isGameOver() {
+    return this.validMoves == 0;
+  }
+
+  /**
+   * Returns the number of legal moves on the board, which is kept up to date by every move, undo,
+   * redo, and unjump rather than found by searching the board, so it is always the same as the
+   * number of moves given by {@link #legalMoves}.
+   *
+   * @return the number of moves that can currently be made
+   */
+  public int legalMoveCount() {
+    return this.validMoves;
+  }
+
+  /**
+   * Goes through every slot with a marble in the span of every row, and only looks at the
+   * directions which the jump table says stay on the valid board.
+   */
+  @Override
+  public void forEachLegalMove(IntConsumer action) throws IllegalStateException {
+    PackedMove.checkBoardSize(this.boardSize);
+    for (int i = 0; i < this.boardSize; i++) {
+      for (int j = this.rowStart(i); j < this.rowEnd(i); j++) {
+        int index = this.index(i, j);
+        if (this.board[index] != MARBLE) {
+          continue;
+        }
+        int directions = this.jumps.jumpsFrom(index);
+        for (int d = 0; directions != 0; d++, directions >>>= 1) {
+          if ((directions & 1) != 0 && this.isValidJump(i, j, d)) {
+            action.accept(PackedMove.pack(i, j, d, this.boardSize));
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Goes through the slots the same way as {@link #forEachLegalMove}, writing the moves straight
+   * into the array.
+   */
+  @Override
+  public int legalMoves(int[] out) throws IllegalStateException {
+    PackedMove.checkBoardSize(this.boardSize);
     int count = 0;
-    for (int i = 0; i < this.getBoardSize(); i++) {
-      for (int j = 0; j < this.getBoardSize(); j++) {
-        if (this.board[i][j] == SlotState.Marble) {
-          count += 1;
+    for (int i = 0; i < this.boardSize; i++) {
+      for (int j = this.rowStart(i); j < this.rowEnd(i); j++) {
+        int index = this.index(i, j);
+        if (this.board[index] != MARBLE) {
+          continue;
+        }
+        int directions = this.jumps.jumpsFrom(index);
+        for (int d = 0; directions != 0; d++, directions >>>= 1) {
+          if ((directions & 1) != 0 && this.isValidJump(i, j, d)) {
+            if (count < out.length) {
+              out[count] = PackedMove.pack(i, j, d, this.boardSize);
+            }
+            count += 1;
+          }
         }
       }
     }
     return count;
   }
+
+  /**
+   * Picks one of the moves that can currently be made, with every legal move being equally
+   * likely. The legal moves are kept in a set that is updated by every move, only looking at the
+   * moves through the three slots that the move changed, so picking a move takes constant time
+   * no matter how large the board is. The set is built the first time this method is called on
+   * a model, which takes as long as looking at the whole board once.
+   *
+   * @param random the source of randomness used to pick the move
+   * @return the picked move, packed as described by {@link PackedMove}, or -1 if there are no
+   *         legal moves
+   * @throws IllegalStateException if this board is too large for its moves to be packed
+   */
+  public int randomLegalMove(SplittableRandom random) throws IllegalStateException {
+    LegalMoveSet set = this.legalMoveSet();
+    if (set.size() == 0) {
+      return -1;
+    }
+    return set.get(random.nextInt(set.size()));
+  }
+
+  /**
+   * Writes every move that can currently be made into the specified array from the set used by
+   * {@link #randomLegalMove}, in no particular order. This takes as long as the number of legal
+   * moves rather than the size of the board, unlike {@link #legalMoves}.
+   *
+   * @param out the array that the legal moves are written to, starting at index 0
+   * @return the number of legal moves, which may be more than the length of the array
+   * @throws IllegalStateException if this board is too large for its moves to be packed
+   */
+  public int unorderedLegalMoves(int[] out) throws IllegalStateException {
+    LegalMoveSet set = this.legalMoveSet();
+    for (int i = 0; i < Math.min(out.length, set.size()); i++) {
+      out[i] = set.get(i);
+    }
+    return set.size();
+  }
+
+  /**
+   * Returns the number of position classes of this type of board, which is 16 for square boards,
+   * since each form of the rule of three splits the positions into 4 classes.
+   *
+   * @return the number of position classes
+   */
+  public int positionClassCount() {
+    return 1 << 2 * this.classForms.length;
+  }
+
+  /**
+   * Returns the position class of the board, which no move, undo, redo, or unjump ever changes.
+   * The slots are split into three classes for every form of the rule of three, and a jump
+   * always adds or takes away one marble in each of them, so whether two of the classes have the
+   * same parity never changes. The parities are kept up to date by every jump with a single XOR.
+   *
+   * @return the position class, from 0 up to but not including {@link #positionClassCount}
+   */
+  public int positionClass() {
+    return this.classOf(this.classParity);
+  }
+
+  /**
+   * Determines whether a single marble at the specified slot is in the same position class as
+   * the board. A board can only ever be played down to a position in its own class, so if it is
+   * not, the target can never be reached, which this finds out in constant time.
+   *
+   * <p>
+   *   A result of true does not mean that the target can be reached, only that the rule of three
+   *   does not rule it out.
+   * </p>
+   *
+   * @param targetRow the row of the slot the last marble should end up in
+   * @param targetCol the column of the slot the last marble should end up in
+   * @return true if a single marble at the target is in the position class of the board
+   * @throws IllegalArgumentException if the target is an invalid space on the board or is not on
+   *                                  the board completely
+   */
+  public boolean isInTargetClass(int targetRow, int targetCol) throws IllegalArgumentException {
+    if (this.isOutOfBounds(targetRow, targetCol) || this.isInvalidSpot(targetRow, targetCol)) {
+      throw new IllegalArgumentException("Invalid target position (" + targetRow + ","
+              + targetCol + ")");
+    }
+    return this.classOf(this.slotParity(targetRow, targetCol)) == this.positionClass();
+  }
+
+  /**
+   * Determines whether the board can provably never be played down to a single marble at the
+   * specified slot. This holds if the board already has only one marble somewhere else, if the
+   * target is not in the position class of the board as found by {@link #isInTargetClass}, or if
+   * the marbles on the board weigh less than a single marble at the target in one of the pagoda
+   * functions of the board, whose total can never go up with a move. The totals are kept up to
+   * date by every move once this is first asked, so this only takes as long as the number of
+   * pagoda functions.
+   *
+   * <p>
+   *   A result of false does not mean that the target can be reached, only that neither the
+   *   rule of three nor any pagoda function rules it out.
+   * </p>
+   *
+   * @param targetRow the row of the slot the last marble should end up in
+   * @param targetCol the column of the slot the last marble should end up in
+   * @return true if the board can never be played down to a single marble at the target
+   * @throws IllegalArgumentException if the target is an invalid space on the board or is not on
+   *                                  the board completely
+   */
+  public boolean isProvablyUnsolvable(int targetRow, int targetCol)
+          throws IllegalArgumentException {
+    if (this.isOutOfBounds(targetRow, targetCol) || this.isInvalidSpot(targetRow, targetCol)) {
+      throw new IllegalArgumentException("Invalid target position (" + targetRow + ","
+              + targetCol + ")");
+    }
+    if (this.score <= 1) {
+      return this.board[this.index(targetRow, targetCol)] != MARBLE;
+    }
+    if (!this.isInTargetClass(targetRow, targetCol)) {
+      return true;
+    }
+    long[] values = this.pagodaValues();
+    for (int k = 0; k < values.length; k++) {
+      if (values[k] < this.pagodas.weight(k, targetRow, targetCol)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the total weight of the marbles on the board in every pagoda function of the board,
+   * adding them up the first time they are needed after the board was built or reset.
+   *
+   * @return the total weight of the marbles in every pagoda function
+   */
+  private long[] pagodaValues() {
+    if (this.pagodas == null) {
+      this.pagodas = PagodaTable.of(this);
+    }
+    if (this.pagodaValues == null) {
+      long[] values = new long[this.pagodas.count()];
+      for (int i = 0; i < this.boardSize; i++) {
+        for (int j = this.rowStart(i); j < this.rowEnd(i); j++) {
+          if (this.board[this.index(i, j)] == MARBLE) {
+            for (int k = 0; k < values.length; k++) {
+              values[k] += this.pagodas.weight(k, i, j);
+            }
+          }
+        }
+      }
+      this.pagodaValues = values;
+    }
+    return this.pagodaValues;
+  }
+
+  /**
+   * Returns the set of legal moves of this board, building it from the whole board if this model
+   * does not have it yet.
+   *
+   * @return the set of every move that can currently be made
+   * @throws IllegalStateException if this board is too large for its moves to be packed
+   */
+  private LegalMoveSet legalMoveSet() throws IllegalStateException {
+    if (this.legalMoveSet == null) {
+      PackedMove.checkBoardSize(this.boardSize);
+      long keyCount = (long) this.slotCount() * this.jumps.directionCount();
+      if (keyCount > Integer.MAX_VALUE) {
+        throw new IllegalStateException("This board is too large to keep its legal moves!");
+      }
+      this.legalMoveSet = new LegalMoveSet((int) keyCount);
+      for (int i = 0; i < this.boardSize; i++) {
+        for (int j = this.rowStart(i); j < this.rowEnd(i); j++) {
+          for (int d = 0; d < this.jumps.directionCount(); d++) {
+            this.updateLegalMove(i, j, d);
+          }
+        }
+      }
+    }
+    return this.legalMoveSet;
+  }
+
+  /**
+   * Brings every jump going through at least one of the three slots changed by a move up to date
+   * in the set of legal moves, since no other jump can have become legal or illegal.
+   *
+   * @param fromRow the row of the from slot of the move changing the board
+   * @param fromCol the column of the from slot of the move changing the board
+   * @param overRow the row of the slot in between of the move changing the board
+   * @param overCol the column of the slot in between of the move changing the board
+   * @param toRow   the row of the to slot of the move changing the board
+   * @param toCol   the column of the to slot of the move changing the board
+   */
+  private void updateLegalMovesThrough(int fromRow, int fromCol, int overRow, int overCol,
+                                       int toRow, int toCol) {
+    for (int d = 0; d < this.jumps.directionCount(); d++) {
+      int rowStep = this.jumps.rowStep(d);
+      int colStep = this.jumps.colStep(d);
+      // the changed slot can be the first, second, or third slot of a move in this direction,
+      // and a jump through more than one of the slots is just brought up to date again
+      for (int k = 0; k < 3; k++) {
+        this.updateLegalMove(fromRow - k * rowStep, fromCol - k * colStep, d);
+        this.updateLegalMove(overRow - k * rowStep, overCol - k * colStep, d);
+        this.updateLegalMove(toRow - k * rowStep, toCol - k * colStep, d);
+      }
+    }
+  }
+
+  /**
+   * Adds the jump from the specified slot in the specified direction to the set of legal moves
+   * if it can currently be made, and removes it otherwise. Jumps that leave the valid board are
+   * never in the set.
+   *
+   * @param row the row of the from slot of the jump
+   * @param col the column of the from slot of the jump
+   * @param d   the index of the direction of the jump
+   */
+  private void updateLegalMove(int row, int col, int d) {
+    if (!this.isJumpOnBoard(row, col, d)) {
+      return;
+    }
+    int key = this.index(row, col) * this.jumps.directionCount() + d;
+    if (this.isValidJump(row, col, d)) {
+      this.legalMoveSet.add(key, PackedMove.pack(row, col, d, this.boardSize));
+    } else {
+      this.legalMoveSet.remove(key);
+    }
+  }
+
+  /**
+   * Counts every valid move on the board by going through every slot with a marble.
+   *
+   * @return the number of valid moves on the entire board
+   */
+  private int countValidMovesOnBoard() {
+    int count = 0;
+    for (int i = 0; i < this.boardSize; i++) {
+      for (int j = 0; j < this.storedRowLength(i); j++) {
+        if (this.board[this.index(i, j)] == MARBLE) {
+          count += this.countValidMovesFromSlot(i, j);
+        }
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Counts the valid moves on a starting board with the specified empty slot, which are the
+   * jumps into the empty slot since every other valid slot has a marble.
+   *
+   * @param sRow the row of the empty slot
+   * @param sCol the column of the empty slot
+   * @return the number of valid moves on the starting board
+   */
+  private int countValidMovesInto(int sRow, int sCol) {
+    int count = 0;
+    for (int d = 0; d < this.jumps.directionCount(); d++) {
+      if (this.isJumpOnBoard(sRow - 2 * this.jumps.rowStep(d), sCol - 2 * this.jumps.colStep(d),
+              d)) {
+        count += 1;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Counts the valid moves from this specific slot, specified by the row and column, in every
+   * direction.
+   *
+   * @param row the row of the specified slot whose moves we are looking at
+   * @param col the column of the specified slot whose moves we are looking at
+   * @return the number of directions in which the marble at this slot can currently jump
+   */
+  protected int countValidMovesFromSlot(int row, int col) {
+    int count = 0;
+    // only looking at the directions which the jump table says stay on the valid board
+    int directions = this.jumps.jumpsFrom(this.index(row, col));
+    for (int d = 0; directions != 0; d++, directions >>>= 1) {
+      if ((directions & 1) != 0 && this.isValidJump(row, col, d)) {
+        count += 1;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Determines whether a jump from the specified slot in the specified direction stays on the
+   * valid board, according to the jump table.
+   *
+   * @param row the row of the from slot of the jump
+   * @param col the column of the from slot of the jump
+   * @param d   the index of the direction of the jump
+   * @return true if the from slot is on the board and the jump stays on the valid board
+   */
+  private boolean isJumpOnBoard(int row, int col, int d) {
+    return this.isStored(row, col) && (this.jumps.jumpsFrom(this.index(row, col)) & (1 << d)) != 0;
+  }
+
+  /**
+   * Determines whether a jump from the specified slot in the specified direction, which is known
+   * to stay on the valid board, can currently be made.
+   *
+   * @param row the row of the from slot of the jump
+   * @param col the column of the from slot of the jump
+   * @param d   the index of the direction of the jump
+   * @return true if the from slot and the slot in between have marbles and the to slot is empty
+   */
+  private boolean isValidJump(int row, int col, int d) {
+    return JumpRules.isValidJump(this.slots, row, col, d);
+  }
+
+  @Override
+  public int getBoardSize() {
+    return this.armThickness * 3 - 2;
+  }
+
+  @Override
+  public SlotState getSlotAt(int row, int col) throws IllegalArgumentException {
+    if (this.isOutOfBounds(row, col)) {
+      throw new IllegalArgumentException("Row and/or column are beyond the dimensions of the "
+              + "board!");
+    } else if (col >= this.storedRowLength(row)) {
+      // slots past the stored part of a row are never a part of the playing area
+      return SlotState.Invalid;
+    } else {
+      return SLOT_STATES[this.board[this.index(row, col)]];
+    }
+  }
+
+  /**
+   * Returns the first valid column of the specified row from the span of the row, without
+   * looking at any slots.
+   */
+  @Override
+  public int getRowStart(int row) throws IllegalArgumentException {
+    if (row < 0 || row >= this.boardSize) {
+      throw new IllegalArgumentException("Row is beyond the dimensions of the board!");
+    }
+    return this.rowStart(row);
+  }
+
+  /**
+   * Returns the column just past the last valid column of the specified row from the span of the
+   * row, without looking at any slots.
+   */
+  @Override
+  public int getRowEnd(int row) throws IllegalArgumentException {
+    if (row < 0 || row >= this.boardSize) {
+      throw new IllegalArgumentException("Row is beyond the dimensions of the board!");
+    }
+    return this.rowEnd(row);
+  }
+
+  /**
+   * Copies the stored part of the row straight out of the board array.
+   */
+  @Override
+  public void copyRow(int row, byte[] dst) throws IllegalArgumentException {
+    this.copyRowOf(this.board, row, dst);
+  }
+
+  /**
+   * Copies the whole board array at once if it stores every slot of the square, and one row at a
+   * time otherwise.
+   */
+  @Override
+  public void copyBoard(byte[] dst) throws IllegalArgumentException {
+    this.copyBoardOf(this.board, dst);
+  }
+
+  /**
+   * Only looks at the slots in the span of every row, since no other slot can have a marble.
+   */
+  @Override
+  public void copyOccupancy(long[] dst) throws IllegalArgumentException {
+    this.copyOccupancyOf(this.board, dst);
+  }
+
+  /**
+   * Copies a row of the specified board array of this shape into the array, the same way as
+   * {@link #copyRow}, so that snapshots sharing a board array with this model can copy it too.
+   *
+   * @param board the board array being copied from
+   * @param row   the row being copied
+   * @param dst   the array the row is copied into
+   * @throws IllegalArgumentException if the row is beyond the dimensions of the board or the
+   *                                  array is too short to hold the row
+   */
+  void copyRowOf(byte[] board, int row, byte[] dst) throws IllegalArgumentException {
+    if (row < 0 || row >= this.boardSize) {
+      throw new IllegalArgumentException("Row is beyond the dimensions of the board!");
+    } else if (dst.length < this.boardSize) {
+      throw new IllegalArgumentException("The array is too short to hold a row!");
+    }
+    int stored = this.storedRowLength(row);
+    System.arraycopy(board, this.index(row, 0), dst, 0, stored);
+    // the slots past the stored part of a row are never a part of the playing area
+    Arrays.fill(dst, stored, this.boardSize, INVALID);
+  }
+
+  /**
+   * Copies the specified board array of this shape into the array, the same way as
+   * {@link #copyBoard}.
+   *
+   * @param board the board array being copied from
+   * @param dst   the array the board is copied into
+   * @throws IllegalArgumentException if the array is too short to hold the board
+   */
+  void copyBoardOf(byte[] board, byte[] dst) throws IllegalArgumentException {
+    long slots = (long) this.boardSize * this.boardSize;
+    if (dst.length < slots) {
+      throw new IllegalArgumentException("The array is too short to hold the board!");
+    }
+    if (board.length == slots) {
+      // the board array already stores every slot of the square in the same order
+      System.arraycopy(board, 0, dst, 0, board.length);
+      return;
+    }
+    for (int i = 0; i < this.boardSize; i++) {
+      int stored = this.storedRowLength(i);
+      int rowIndex = i * this.boardSize;
+      System.arraycopy(board, this.index(i, 0), dst, rowIndex, stored);
+      Arrays.fill(dst, rowIndex + stored, rowIndex + this.boardSize, INVALID);
+    }
+  }
+
+  /**
+   * Copies which slots of the specified board array of this shape have a marble into the array
+   * of bits, the same way as {@link #copyOccupancy}.
+   *
+   * @param board the board array being copied from
+   * @param dst   the array the bits are copied into
+   * @throws IllegalArgumentException if the array is too short to hold a bit for every slot
+   */
+  void copyOccupancyOf(byte[] board, long[] dst) throws IllegalArgumentException {
+    long slots = (long) this.boardSize * this.boardSize;
+    if (dst.length < (slots + 63) / 64) {
+      throw new IllegalArgumentException("The array is too short to hold the board!");
+    }
+    Arrays.fill(dst, 0, (int) ((slots + 63) / 64), 0L);
+    for (int i = 0; i < this.boardSize; i++) {
+      int rowIndex = this.index(i, 0);
+      int bit = i * this.boardSize;
+      for (int j = this.rowStart(i); j < this.rowEnd(i); j++) {
+        if (board[rowIndex + j] == MARBLE) {
+          dst[(bit + j) >>> 6] |= 1L << (bit + j);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the number of marbles on the board, which is kept up to date by every move rather
+   * than counted from the board.
+   *
+   * @return the number of marbles currently on the board
+   */
+  @Override
+  public int getScore() {
+    return this.score;
+  }
+
+  @Override
+  public boolean addMoveListener(MoveListener listener) throws IllegalArgumentException {
+    this.listeners.add(listener);
+    return true;
+  }
+
+  @Override
+  public boolean removeMoveListener(MoveListener listener) {
+    return this.listeners.remove(listener);
+  }
+
+  /**
+   * Returns the 64 bit Zobrist hash of the marbles on the board, which is kept up to date by
+   * every move rather than found from the board. Two models with the same marbles in the same
+   * slots always have the same hash, no matter how they got there.
+   *
+   * @return the hash of the current position
+   */
+  public long positionHash() {
+    return this.positionHash;
+  }
+
+  /**
+   * Determines whether the specified object is a model of the same type of board with the same
+   * arm thickness and a marble in exactly the same slots. The score and the moves that can be
+   * undone are not a part of the position, so they are not compared. Since a model changes with
+   * every move, a model used as the key of a map should be a {@link #copy()} that is not played.
+   *
+   * @param o the object being compared with this model
+   * @return true if the object is a model in the same position, false otherwise
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || this.getClass() != o.getClass()) {
+      return false;
+    }
+    AbstractSolitaireModel other = (AbstractSolitaireModel) o;
+    // the hashes are compared first since two different positions almost never share one
+    return this.positionHash == other.positionHash
+            && this.armThickness == other.armThickness
+            && Arrays.equals(this.board, other.board);
+  }
+
+  /**
+   * Returns the hash code of the position from its Zobrist hash, without looking at the board.
+   *
+   * @return the hash code of this model
+   */
+  @Override
+  public int hashCode() {
+    return Long.hashCode(this.positionHash);
+  }
+
+  /**
+   * Finds the symmetry which moves the marbles of this board to the smallest of all of its
+   * symmetric images, comparing the images slot by slot in the order of the rows with an empty
+   * slot coming before a marble. Positions which are rotations or reflections of each other
+   * always have the same smallest image, so it can stand for all of them in a search or a cache.
+   *
+   * @return the index of the symmetry giving the smallest image, which is the lowest such index
+   *         if more than one symmetry gives it
+   */
+  public int canonicalTransform() {
+    SymmetryTable table = this.symmetryTable();
+    int best = 0;
+    for (int t = 1; t < this.symmetryCount(); t++) {
+      if (this.compareImages(table, t, best) < 0) {
+        best = t;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Moves the marbles of this board to the smallest of its symmetric images, as found by
+   * {@link #canonicalTransform()}. The moves that can be undone and redone are moved with the
+   * board, so they still work, and the moves found on the new board can be mapped back to the
+   * old one with the inverse of the returned symmetry.
+   *
+   * @return the index of the symmetry that was applied to the board
+   */
+  public int canonicalize() {
+    int transform = this.canonicalTransform();
+    if (transform != 0) {
+      this.applyTransform(transform);
+    }
+    return transform;
+  }
+
+  /**
+   * Moves a packed move with the specified symmetry, so that it makes the same jump on the image
+   * of the board under that symmetry.
+   *
+   * @param move      the packed move, as described by {@link PackedMove}
+   * @param transform the index of the symmetry
+   * @return the packed move after the symmetry
+   * @throws IllegalArgumentException if the symmetry is not one of the symmetries of this board
+   * @throws IllegalStateException if this board is too large for its moves to be packed
+   */
+  public int transformMove(int move, int transform)
+          throws IllegalArgumentException, IllegalStateException {
+    this.checkTransform(transform);
+    PackedMove.checkBoardSize(this.boardSize);
+    int fromRow = PackedMove.fromRow(move, this.boardSize);
+    int fromCol = PackedMove.fromCol(move, this.boardSize);
+    int toRow = PackedMove.toRow(move, this.boardSize);
+    int toCol = PackedMove.toCol(move, this.boardSize);
+    int newFromRow = this.transformRow(transform, fromRow, fromCol);
+    int newFromCol = this.transformCol(transform, fromRow, fromCol);
+    // the symmetries keep the directions of the board, so the jump still has one of them
+    int direction = this.jumps.directionOf(newFromRow, newFromCol,
+            this.transformRow(transform, toRow, toCol), this.transformCol(transform, toRow, toCol));
+    return PackedMove.pack(newFromRow, newFromCol, direction, this.boardSize);
+  }
+
+  /**
+   * Returns the symmetry which undoes the specified one, for mapping moves found on an image of
+   * the board back to the board itself.
+   *
+   * @param transform the index of the symmetry
+   * @return the index of the inverse symmetry
+   * @throws IllegalArgumentException if the symmetry is not one of the symmetries of this board
+   */
+  public int inverseTransform(int transform) throws IllegalArgumentException {
+    this.checkTransform(transform);
+    return this.symmetryTable().inverseOf(transform);
+  }
+
+  /**
+   * Makes sure that the specified index is one of the symmetries of this board.
+   *
+   * @param transform the index of the symmetry
+   * @throws IllegalArgumentException if the index is not one of the symmetries of this board
+   */
+  private void checkTransform(int transform) throws IllegalArgumentException {
+    if (transform < 0 || transform >= this.symmetryCount()) {
+      throw new IllegalArgumentException("This board does not have symmetry " + transform + "!");
+    }
+  }
+
+  /**
+   * Returns the symmetry table of this board, looking it up the first time it is needed.
+   *
+   * @return the shared symmetry table of this board shape
+   */
+  private SymmetryTable symmetryTable() {
+    if (this.symmetries == null) {
+      this.symmetries = SymmetryTable.of(this);
+    }
+    return this.symmetries;
+  }
+
+  /**
+   * Compares the images of the board under two symmetries one valid slot at a time, without
+   * building either image.
+   *
+   * @param table  the symmetry table of this board
+   * @param first  the index of the first symmetry
+   * @param second the index of the second symmetry
+   * @return a negative number if the first image is smaller, a positive number if the second one
+   *         is smaller, or 0 if they are the same
+   */
+  private int compareImages(SymmetryTable table, int first, int second) {
+    for (int i = 0; i < this.boardSize; i++) {
+      for (int j = this.rowStart(i); j < this.rowEnd(i); j++) {
+        int index = this.index(i, j);
+        int difference = this.board[table.sourceOf(first, index)]
+                - this.board[table.sourceOf(second, index)];
+        if (difference != 0) {
+          return difference;
+        }
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Replaces the board with its image under the specified symmetry, along with its hash and the
+   * moves in its history. The score and the number of valid moves do not change, since the
+   * symmetry moves every marble and every valid move to another one.
+   *
+   * @param transform the index of the symmetry
+   */
+  private void applyTransform(int transform) {
+    SymmetryTable table = this.symmetryTable();
+    byte[] old = this.board;
+    // the old board is only read from now on, so a snapshot can keep sharing it
+    this.board = new byte[old.length];
+    this.snapshot = null;
+    long hash = 0;
+    for (int i = 0; i < this.board.length; i++) {
+      this.board[i] = old[table.sourceOf(transform, i)];
+      if (this.board[i] == MARBLE) {
+        hash ^= zobristKey(i);
+      }
+    }
+    this.positionHash = hash;
+    this.classParity = this.parityOf(this.board);
+    // every legal move has moved somewhere else, so the set is built again the next time it is
+    // needed, and so are the pagoda values since the pagoda functions need not be symmetric
+    this.legalMoveSet = null;
+    this.pagodaValues = null;
+    for (int k = 0; k < this.redoSize; k++) {
+      this.history[k] = this.transformMove(this.history[k], transform);
+    }
+    this.listeners.fireBoardChanged();
+  }
+
+  /**
+   * The slots of this board as seen by the rules of a jump, which reads the board array and
+   * looks up which jumps stay on the board in the jump table.
+   */
+  private final class BoardSlots implements JumpRules.Slots {
+
+    @Override
+    public int directionCount() {
+      return AbstractSolitaireModel.this.jumps.directionCount();
+    }
+
+    @Override
+    public int rowStep(int d) {
+      return AbstractSolitaireModel.this.jumps.rowStep(d);
+    }
+
+    @Override
+    public int colStep(int d) {
+      return AbstractSolitaireModel.this.jumps.colStep(d);
+    }
+
+    @Override
+    public int directionOf(int fromRow, int fromCol, int toRow, int toCol) {
+      return AbstractSolitaireModel.this.jumps.directionOf(fromRow, fromCol, toRow, toCol);
+    }
+
+    @Override
+    public boolean isOutOfBounds(int row, int col) {
+      return AbstractSolitaireModel.this.isOutOfBounds(row, col);
+    }
+
+    @Override
+    public boolean isJumpOnBoard(int row, int col, int d) {
+      return AbstractSolitaireModel.this.isJumpOnBoard(row, col, d);
+    }
+
+    @Override
+    public int readSlot(int row, int col) {
+      return AbstractSolitaireModel.this.board[AbstractSolitaireModel.this.index(row, col)];
+    }
+  }
 }
@@ -0,0 +1,313 @@
+package model;
+
+import java.util.function.IntConsumer;
+
+/**
+ * This class represents an implementation of the model of the standard English variant of Marble
+ * Solitaire (the '+' shaped board with an arm thickness of 3) which stores the whole position in
+ * a single long instead of a 2D array of SlotStates.
+ *
+ * <p>
+ *   Every slot of the 7x7 board is given a bit, numbered row * 7 + col, and the occupancy of the
+ *   board is a mask with the bit of every slot holding a marble set. The jumps in each of the four
+ *   directions are precomputed as masks of the slots that a marble can jump from, so that moving,
+ *   counting the marbles and checking whether the game is over are all a handful of bit operations
+ *   rather than a walk over the board. The board looks exactly like the one of an
+ *   {@link EnglishSolitaireModel} through {@link #getSlotAt}, so it works with the same views and
+ *   controllers.
+ * </p>
+ */
+public class BitboardEnglishSolitaireModel implements MarbleSolitaireModel {
+
+  private static final int SIZE = 7;
+
+  // the mask of every slot that is a part of the '+' playing board
+  private static final long VALID = validMask();
+
+  // the masks of every slot that a marble could jump from in each of the directions, meaning
+  // that the slot in between and the slot two away in that direction are both on the board
+  private static final long LEFT = jumpMask(0, -1);
+  private static final long RIGHT = jumpMask(0, 1);
+  private static final long UP = jumpMask(-1, 0);
+  private static final long DOWN = jumpMask(1, 0);
+
+  private long marbles;
+
+  /**
+   * A constructor for creating a BitboardEnglishSolitaireModel with the empty slot at the center.
+   */
+  public BitboardEnglishSolitaireModel() {
+    this(3, 3);
+  }
+
+  /**
+   * A constructor for creating a BitboardEnglishSolitaireModel with the empty slot at the
+   * specified slot.
+   *
+   * @param sRow  the row of the empty slot
+   * @param sCol  the column of the empty slot
+   * @throws IllegalArgumentException if the specified slot is not a part of the plus
+   */
+  public BitboardEnglishSolitaireModel(int sRow, int sCol) throws IllegalArgumentException {
+    if (isOutOfBounds(sRow, sCol) || (VALID & bit(sRow, sCol)) == 0) {
+      throw new IllegalArgumentException("Invalid empty cell position (" + sRow + "," + sCol + ")");
+    }
+    this.marbles = VALID & ~bit(sRow, sCol);
+  }
+
+  /**
+   * Generates the mask of every slot on the 7x7 board that is a part of the '+' shaped board,
+   * which are all the slots other than the ones in the four corners.
+   *
+   * @return the mask of every valid slot on the board
+   */
+  private static long validMask() {
+    long mask = 0L;
+    for (int i = 0; i < SIZE; i++) {
+      for (int j = 0; j < SIZE; j++) {
+        // the slot is in one of the corners which is not a part of the '+' playing board
+        if (!((i <= 1 || i >= 5) && (j <= 1 || j >= 5))) {
+          mask |= bit(i, j);
+        }
+      }
+    }
+    return mask;
+  }
+
+  /**
+   * Generates the mask of every slot that a marble could jump from in the direction specified by
+   * the change in row and column, ignoring whether there are marbles on the board.
+   *
+   * @param dRow the change in row of a single step in this direction
+   * @param dCol the change in column of a single step in this direction
+   * @return the mask of every slot from which the slot one step and the slot two steps away in
+   *         this direction are both valid slots on the board
+   */
+  private static long jumpMask(int dRow, int dCol) {
+    long mask = 0L;
+    for (int i = 0; i < SIZE; i++) {
+      for (int j = 0; j < SIZE; j++) {
+        int toRow = i + 2 * dRow;
+        int toCol = j + 2 * dCol;
+        if (!isOutOfBounds(toRow, toCol)
+                && (VALID & bit(i, j)) != 0
+                && (VALID & bit(i + dRow, j + dCol)) != 0
+                && (VALID & bit(toRow, toCol)) != 0) {
+          mask |= bit(i, j);
+        }
+      }
+    }
+    return mask;
+  }
+
+  /**
+   * Determines the single bit that represents the slot at the specified row and column.
+   *
+   * @param row the row of the slot
+   * @param col the column of the slot
+   * @return a long with only the bit of the specified slot set
+   */
+  private static long bit(int row, int col) {
+    return 1L << (row * SIZE + col);
+  }
+
+  /**
+   * Determines if a slot specified by the row and column is not on the 7x7 board at all.
+   *
+   * @param row represents the row of the specified slot
+   * @param col represents the column of the specified slot
+   * @return true if the slot is out of bounds, false otherwise
+   */
+  private static boolean isOutOfBounds(int row, int col) {
+    return row < 0 || row > SIZE - 1 || col < 0 || col > SIZE - 1;
+  }
+
+  /**
+   * This method throws an exception if any of the following are true, which are the same
+   * conditions as an {@link EnglishSolitaireModel}.
+   *
+   * <ul>
+   *   <li> The from or to slot is not on the board. </li>
+   *   <li> The from or to slot is an invalid slot. </li>
+   *   <li> The to slot is not exactly two slots away horizontally or vertically. </li>
+   *   <li> The from slot or the slot in between doesn't have a marble. </li>
+   *   <li> The to slot isn't empty. </li>
+   * </ul>
+   */
+  @Override
+  public void move(int fromRow, int fromCol, int toRow, int toCol) throws IllegalArgumentException {
+    MoveResult.requireOk(this.tryMove(fromRow, fromCol, toRow, toCol));
+  }
+
+  /**
+   * Makes the move if it is valid, finding out why it is not valid otherwise from the bits of
+   * the three slots, without building an exception.
+   */
+  @Override
+  public int tryMove(int fromRow, int fromCol, int toRow, int toCol) {
+    // either the from or to slot are not on the board
+    if (isOutOfBounds(fromRow, fromCol) || isOutOfBounds(toRow, toCol)) {
+      return MoveResult.OUT_OF_BOUNDS;
+    }
+
+    // finding the mask of the slots that can jump in the direction of this move, if the move is
+    // two slots away horizontally or vertically at all
+    long directionMask;
+    if (fromRow == toRow && toCol - fromCol == -2) {
+      directionMask = LEFT;
+    } else if (fromRow == toRow && toCol - fromCol == 2) {
+      directionMask = RIGHT;
+    } else if (fromCol == toCol && toRow - fromRow == -2) {
+      directionMask = UP;
+    } else if (fromCol == toCol && toRow - fromRow == 2) {
+      directionMask = DOWN;
+    } else {
+      return MoveResult.NOT_A_JUMP;
+    }
+
+    long from = bit(fromRow, fromCol);
+    long over = bit((fromRow + toRow) / 2, (fromCol + toCol) / 2);
+    long to = bit(toRow, toCol);
+
+    // the from slot must be able to jump in this direction, the from slot and the slot in between
+    // must have marbles, and the to slot must be empty
+    if ((directionMask & from) == 0) {
+      return MoveResult.NOT_A_JUMP;
+    } else if ((this.marbles & from) == 0 || (this.marbles & over) == 0) {
+      return MoveResult.NO_MARBLE;
+    } else if ((this.marbles & to) != 0) {
+      return MoveResult.OCCUPIED_TARGET;
+    }
+
+    // the from and in between slots lose their marbles and the to slot gains one
+    this.marbles ^= from | over | to;
+    return MoveResult.OK;
+  }
+
+  /**
+   * Determines if the game is over by computing, for each direction, every slot that has a
+   * marble that can currently jump in that direction all at once.
+   *
+   * @return true if no marble on the board can jump in any direction, false otherwise
+   */
+  @Override
+  public boolean isGameOver() {
+    long marbles = this.marbles;
+    long empty = VALID & ~marbles;
+
+    // a marble at bit i can jump towards higher bits if bit i + step has a marble and bit
+    // i + 2 * step is empty, and towards lower bits if the same holds for i - step and i - 2 * step
+    long movable = (marbles & (marbles >>> 1) & (empty >>> 2) & RIGHT)
+            | (marbles & (marbles << 1) & (empty << 2) & LEFT)
+            | (marbles & (marbles >>> SIZE) & (empty >>> (2 * SIZE)) & DOWN)
+            | (marbles & (marbles << SIZE) & (empty << (2 * SIZE)) & UP);
+    return movable == 0;
+  }
+
+  /**
+   * Finds the slots with a marble that can jump in each direction all at once, the same way as
+   * {@link #isGameOver}, and then goes through the slots of those masks in order.
+   */
+  @Override
+  public void forEachLegalMove(IntConsumer action) {
+    long marbles = this.marbles;
+    long empty = VALID & ~marbles;
+    long left = marbles & (marbles << 1) & (empty << 2) & LEFT;
+    long right = marbles & (marbles >>> 1) & (empty >>> 2) & RIGHT;
+    long up = marbles & (marbles << SIZE) & (empty << (2 * SIZE)) & UP;
+    long down = marbles & (marbles >>> SIZE) & (empty >>> (2 * SIZE)) & DOWN;
+    long movable = left | right | up | down;
+    while (movable != 0) {
+      int from = Long.numberOfTrailingZeros(movable);
+      long bit = movable & -movable;
+      movable ^= bit;
+      if ((left & bit) != 0) {
+        action.accept(PackedMove.pack(from, PackedMove.LEFT));
+      }
+      if ((right & bit) != 0) {
+        action.accept(PackedMove.pack(from, PackedMove.RIGHT));
+      }
+      if ((up & bit) != 0) {
+        action.accept(PackedMove.pack(from, PackedMove.UP));
+      }
+      if ((down & bit) != 0) {
+        action.accept(PackedMove.pack(from, PackedMove.DOWN));
+      }
+    }
+  }
+
+  /**
+   * Finds the moves the same way as {@link #forEachLegalMove}, writing them straight into the
+   * array.
+   */
+  @Override
+  public int legalMoves(int[] out) {
+    long marbles = this.marbles;
+    long empty = VALID & ~marbles;
+    long left = marbles & (marbles << 1) & (empty << 2) & LEFT;
+    long right = marbles & (marbles >>> 1) & (empty >>> 2) & RIGHT;
+    long up = marbles & (marbles << SIZE) & (empty << (2 * SIZE)) & UP;
+    long down = marbles & (marbles >>> SIZE) & (empty >>> (2 * SIZE)) & DOWN;
+    long movable = left | right | up | down;
+    int count = 0;
+    while (movable != 0) {
+      int from = Long.numberOfTrailingZeros(movable);
+      long bit = movable & -movable;
+      movable ^= bit;
+      if ((left & bit) != 0) {
+        count = append(out, count, PackedMove.pack(from, PackedMove.LEFT));
+      }
+      if ((right & bit) != 0) {
+        count = append(out, count, PackedMove.pack(from, PackedMove.RIGHT));
+      }
+      if ((up & bit) != 0) {
+        count = append(out, count, PackedMove.pack(from, PackedMove.UP));
+      }
+      if ((down & bit) != 0) {
+        count = append(out, count, PackedMove.pack(from, PackedMove.DOWN));
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Writes the move into the array at the specified count if it fits.
+   *
+   * @param out   the array of moves
+   * @param count the number of moves found so far
+   * @param move  the packed move
+   * @return the number of moves found including this one
+   */
+  private static int append(int[] out, int count, int move) {
+    if (count < out.length) {
+      out[count] = move;
+    }
+    return count + 1;
+  }
+
+  @Override
+  public int getBoardSize() {
+    return SIZE;
+  }
+
+  @Override
+  public SlotState getSlotAt(int row, int col) throws IllegalArgumentException {
+    if (isOutOfBounds(row, col)) {
+      throw new IllegalArgumentException("Row and/or column are beyond the dimensions of the "
+              + "board!");
+    }
+    long bit = bit(row, col);
+    if ((VALID & bit) == 0) {
+      return SlotState.Invalid;
+    } else if ((this.marbles & bit) == 0) {
+      return SlotState.Empty;
+    } else {
+      return SlotState.Marble;
+    }
+  }
+
+  @Override
+  public int getScore() {
+    return Long.bitCount(this.marbles);
+  }
+}
@@ -0,0 +1,362 @@
+package model;
+
+import java.util.function.IntConsumer;
+
+/**
+ * This class represents an implementation of the model of Marble Solitaire which stores the
+ * board as a bitboard spread over an array of longs, so that it can hold a board of any arm
+ * thickness for any of the English, European, or Triangle variants.
+ *
+ * <p>
+ *   Every slot of the board is given a bit, numbered row * boardSize + col, and the occupancy of
+ *   the board is a set of these bits. The shape of the board is copied once from the
+ *   {@link AbstractSolitaireModel#isInvalidSpot} rules of the model that it is started from, and
+ *   is turned into a mask for every direction of the slots that a marble can jump from in that
+ *   direction. Checking whether the game is over then shifts and masks the occupancy of the board
+ *   64 slots at a time for every direction, so it scales with the number of words rather than the
+ *   number of slots.
+ * </p>
+ */
+public class BitboardSolitaireModel implements MarbleSolitaireModel {
+
+  private final int boardSize;
+  private final int[][] directions;
+  private final long[] valid;
+  private final long[][] canJump;
+  private final long[] marbles;
+
+  /**
+   * A constructor for creating a BitboardSolitaireModel with the same variant, size, and current
+   * state of the board as the specified model.
+   *
+   * @param start the model whose shape and slots this model starts with
+   * @throws IllegalArgumentException if the specified model is null
+   */
+  public BitboardSolitaireModel(AbstractSolitaireModel start) throws IllegalArgumentException {
+    if (start == null) {
+      throw new IllegalArgumentException("The starting model cannot be null!");
+    }
+    this.boardSize = start.getBoardSize();
+    this.directions = start.jumpDirections();
+
+    int words = (int) (((long) this.boardSize * this.boardSize + 63) / 64);
+    this.valid = new long[words];
+    this.marbles = new long[words];
+    for (int i = 0; i < this.boardSize; i++) {
+      for (int j = 0; j < this.boardSize; j++) {
+        if (!start.isInvalidSpot(i, j)) {
+          setBit(this.valid, this.index(i, j));
+        }
+        if (start.getSlotAt(i, j) == SlotState.Marble) {
+          setBit(this.marbles, this.index(i, j));
+        }
+      }
+    }
+
+    this.canJump = new long[this.directions.length][words];
+    for (int d = 0; d < this.directions.length; d++) {
+      this.generateJumpMask(d);
+    }
+  }
+
+  /**
+   * Fills in the mask of every slot that a marble could jump from in the specified direction,
+   * which are the valid slots whose slot one step away and slot two steps away in that direction
+   * are both valid slots on the board.
+   *
+   * @param d the index of the direction in the directions of this board
+   */
+  private void generateJumpMask(int d) {
+    int dRow = this.directions[d][0];
+    int dCol = this.directions[d][1];
+    for (int i = 0; i < this.boardSize; i++) {
+      for (int j = 0; j < this.boardSize; j++) {
+        int toRow = i + 2 * dRow;
+        int toCol = j + 2 * dCol;
+        if (!this.isOutOfBounds(toRow, toCol)
+                && getBit(this.valid, this.index(i, j))
+                && getBit(this.valid, this.index(i + dRow, j + dCol))
+                && getBit(this.valid, this.index(toRow, toCol))) {
+          setBit(this.canJump[d], this.index(i, j));
+        }
+      }
+    }
+  }
+
+  /**
+   * Determines the index of the bit that represents the slot at the specified row and column.
+   *
+   * @param row the row of the slot
+   * @param col the column of the slot
+   * @return the index of the bit of this slot
+   */
+  private long index(int row, int col) {
+    return (long) row * this.boardSize + col;
+  }
+
+  /**
+   * Determines if the bit at the specified index of the bits is set.
+   *
+   * @param bits  the bits being read
+   * @param index the index of the bit
+   * @return true if the bit is set, false otherwise
+   */
+  private static boolean getBit(long[] bits, long index) {
+    return (bits[(int) (index >>> 6)] & (1L << index)) != 0;
+  }
+
+  /**
+   * Sets the bit at the specified index of the bits.
+   *
+   * @param bits  the bits being changed
+   * @param index the index of the bit
+   */
+  private static void setBit(long[] bits, long index) {
+    bits[(int) (index >>> 6)] |= 1L << index;
+  }
+
+  /**
+   * Determines the word of the specified bits shifted by the specified offset, meaning that bit
+   * j of the result is the bit at index 64 * word + j + offset, or 0 if that bit is past either
+   * end of the bits.
+   *
+   * @param bits   the bits being shifted
+   * @param word   the index of the word of the result
+   * @param offset the number of bits to shift by, which may be negative
+   * @return the word of the shifted bits
+   */
+  private static long shiftedWord(long[] bits, int word, int offset) {
+    long first = 64L * word + offset;
+    int q = (int) Math.floorDiv(first, 64L);
+    int r = (int) Math.floorMod(first, 64L);
+    long result = wordAt(bits, q) >>> r;
+    if (r != 0) {
+      result |= wordAt(bits, q + 1) << (64 - r);
+    }
+    return result;
+  }
+
+  /**
+   * Returns the specified word of the bits, or 0 if the word is past either end of the bits.
+   *
+   * @param bits the bits being read
+   * @param word the index of the word
+   * @return the word, or 0 if it is not one of the words of the bits
+   */
+  private static long wordAt(long[] bits, int word) {
+    return word < 0 || word >= bits.length ? 0L : bits[word];
+  }
+
+  /**
+   * Determines if a slot specified by the row and column is not on the board at all.
+   *
+   * @param row represents the row of the specified slot
+   * @param col represents the column of the specified slot
+   * @return true if the slot is out of bounds, false otherwise
+   */
+  private boolean isOutOfBounds(int row, int col) {
+    return row < 0 || row > this.boardSize - 1 || col < 0 || col > this.boardSize - 1;
+  }
+
+  /**
+   * This method throws an exception if any of the following are true, which are the same
+   * conditions as the model that this one was started from.
+   *
+   * <ul>
+   *   <li> The from or to slot is not on the board. </li>
+   *   <li> The to slot is not exactly two slots away in one of the directions of this board. </li>
+   *   <li> The from, to, or in between slot is an invalid slot. </li>
+   *   <li> The from slot or the slot in between doesn't have a marble. </li>
+   *   <li> The to slot isn't empty. </li>
+   * </ul>
+   */
+  @Override
+  public void move(int fromRow, int fromCol, int toRow, int toCol) throws IllegalArgumentException {
+    MoveResult.requireOk(this.tryMove(fromRow, fromCol, toRow, toCol));
+  }
+
+  /**
+   * Makes the move if it is valid, finding out why it is not valid otherwise from the bits of
+   * the three slots, without building an exception.
+   */
+  @Override
+  public int tryMove(int fromRow, int fromCol, int toRow, int toCol) {
+    // either the from or to slot are not on the board
+    if (this.isOutOfBounds(fromRow, fromCol) || this.isOutOfBounds(toRow, toCol)) {
+      return MoveResult.OUT_OF_BOUNDS;
+    }
+
+    // finding the direction whose jump lands on the to slot
+    int direction = -1;
+    for (int d = 0; d < this.directions.length; d++) {
+      if (toRow - fromRow == 2 * this.directions[d][0]
+              && toCol - fromCol == 2 * this.directions[d][1]) {
+        direction = d;
+      }
+    }
+
+    long from = this.index(fromRow, fromCol);
+    long over = this.index((fromRow + toRow) / 2, (fromCol + toCol) / 2);
+    long to = this.index(toRow, toCol);
+    if (direction == -1 || !getBit(this.canJump[direction], from)) {
+      return MoveResult.NOT_A_JUMP;
+    } else if (!getBit(this.marbles, from) || !getBit(this.marbles, over)) {
+      return MoveResult.NO_MARBLE;
+    } else if (getBit(this.marbles, to)) {
+      return MoveResult.OCCUPIED_TARGET;
+    }
+
+    // the from and in between slots lose their marbles and the to slot gains one
+    this.marbles[(int) (from >>> 6)] ^= 1L << from;
+    this.marbles[(int) (over >>> 6)] ^= 1L << over;
+    this.marbles[(int) (to >>> 6)] ^= 1L << to;
+    return MoveResult.OK;
+  }
+
+  /**
+   * Determines if the game is over by computing, 64 slots at a time, the slots with a marble that
+   * can jump in each of the directions of this board.
+   *
+   * @return true if no marble on the board can jump in any direction, false otherwise
+   */
+  @Override
+  public boolean isGameOver() {
+    for (int w = 0; w < this.marbles.length; w++) {
+      if (this.marbles[w] == 0) {
+        continue;
+      }
+      for (int d = 0; d < this.directions.length; d++) {
+        if (this.movableInWord(d, w) != 0) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Finds the slots with a marble that can jump in any direction 64 slots at a time, and only
+   * then looks at the single bits of those slots to find their directions.
+   */
+  @Override
+  public void forEachLegalMove(IntConsumer action) throws IllegalStateException {
+    PackedMove.checkBoardSize(this.boardSize);
+    for (int w = 0; w < this.marbles.length; w++) {
+      long movable = this.movableInWord(w);
+      while (movable != 0) {
+        long from = 64L * w + Long.numberOfTrailingZeros(movable);
+        movable &= movable - 1;
+        for (int d = 0; d < this.directions.length; d++) {
+          if (this.canJumpFrom(from, d)) {
+            action.accept(PackedMove.pack((int) from, d));
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Finds the slots the same way as {@link #forEachLegalMove}, writing the moves straight into
+   * the array.
+   */
+  @Override
+  public int legalMoves(int[] out) throws IllegalStateException {
+    PackedMove.checkBoardSize(this.boardSize);
+    int count = 0;
+    for (int w = 0; w < this.marbles.length; w++) {
+      long movable = this.movableInWord(w);
+      while (movable != 0) {
+        long from = 64L * w + Long.numberOfTrailingZeros(movable);
+        movable &= movable - 1;
+        for (int d = 0; d < this.directions.length; d++) {
+          if (this.canJumpFrom(from, d)) {
+            if (count < out.length) {
+              out[count] = PackedMove.pack((int) from, d);
+            }
+            count += 1;
+          }
+        }
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Determines the slots in the specified word of the board that have a marble that can currently
+   * jump in at least one direction.
+   *
+   * @param w the index of the word of the board
+   * @return the bits of the slots in this word with a marble that can jump
+   */
+  private long movableInWord(int w) {
+    long movable = 0L;
+    if (this.marbles[w] != 0) {
+      for (int d = 0; d < this.directions.length; d++) {
+        movable |= this.movableInWord(d, w);
+      }
+    }
+    return movable;
+  }
+
+  /**
+   * Determines whether the marble at the specified bit can currently jump in the specified
+   * direction.
+   *
+   * @param from the index of the bit of the from slot, which has a marble
+   * @param d    the index of the direction in the directions of this board
+   * @return true if the jump stays on the board, the slot in between has a marble, and the to
+   *         slot is empty
+   */
+  private boolean canJumpFrom(long from, int d) {
+    int step = this.directions[d][0] * this.boardSize + this.directions[d][1];
+    return getBit(this.canJump[d], from) && getBit(this.marbles, from + step)
+            && !getBit(this.marbles, from + 2 * step);
+  }
+
+  /**
+   * Determines the slots in the specified word of the board that have a marble that can currently
+   * jump in the specified direction.
+   *
+   * @param d the index of the direction in the directions of this board
+   * @param w the index of the word of the board
+   * @return the bits of the slots in this word with a marble that can jump in this direction
+   */
+  private long movableInWord(int d, int w) {
+    int step = this.directions[d][0] * this.boardSize + this.directions[d][1];
+    // a marble at bit i can jump if bit i + step has a marble and bit i + 2 * step is empty,
+    // where the jump mask makes sure that both of those bits are valid slots in the same line
+    return this.marbles[w] & this.canJump[d][w]
+            & shiftedWord(this.marbles, w, step)
+            & ~shiftedWord(this.marbles, w, 2 * step);
+  }
+
+  @Override
+  public int getBoardSize() {
+    return this.boardSize;
+  }
+
+  @Override
+  public SlotState getSlotAt(int row, int col) throws IllegalArgumentException {
+    if (this.isOutOfBounds(row, col)) {
+      throw new IllegalArgumentException("Row and/or column are beyond the dimensions of the "
+              + "board!");
+    }
+    long index = this.index(row, col);
+    if (!getBit(this.valid, index)) {
+      return SlotState.Invalid;
+    } else if (getBit(this.marbles, index)) {
+      return SlotState.Marble;
+    } else {
+      return SlotState.Empty;
+    }
+  }
+
+  @Override
+  public int getScore() {
+    int count = 0;
+    for (long word : this.marbles) {
+      count += Long.bitCount(word);
+    }
+    return count;
+  }
+}
@@ -0,0 +1,70 @@
+package model;
+
+/**
+ * The shapes of the square boards of marble solitaire, for the models of a board that do not
+ * extend the model of its shape but still need the span of every row and the number of valid
+ * slots. Every shape is worked out from the arm thickness alone by the static helpers of the
+ * model of that shape, so none of them ever looks at a board.
+ */
+enum BoardShape {
+
+  ENGLISH {
+    @Override
+    int rowStart(int armThickness, int row) {
+      return EnglishSolitaireModel.englishRowStart(armThickness, row);
+    }
+
+    @Override
+    int rowEnd(int armThickness, int row) {
+      return EnglishSolitaireModel.englishRowEnd(armThickness, row);
+    }
+
+    @Override
+    long slotCount(int armThickness) {
+      return EnglishSolitaireModel.englishSlotCount(armThickness);
+    }
+  },
+
+  EUROPEAN {
+    @Override
+    int rowStart(int armThickness, int row) {
+      return EuropeanSolitaireModel.europeanRowStart(armThickness, row);
+    }
+
+    @Override
+    int rowEnd(int armThickness, int row) {
+      return EuropeanSolitaireModel.europeanRowEnd(armThickness, row);
+    }
+
+    @Override
+    long slotCount(int armThickness) {
+      return EuropeanSolitaireModel.europeanSlotCount(armThickness);
+    }
+  };
+
+  /**
+   * Returns the first valid column of a row of a board of this shape.
+   *
+   * @param armThickness the armThickness of the board
+   * @param row          the row of the board
+   * @return the first valid column of the row
+   */
+  abstract int rowStart(int armThickness, int row);
+
+  /**
+   * Returns the column just past the last valid column of a row of a board of this shape.
+   *
+   * @param armThickness the armThickness of the board
+   * @param row          the row of the board
+   * @return one more than the last valid column of the row
+   */
+  abstract int rowEnd(int armThickness, int row);
+
+  /**
+   * Returns the number of valid slots of a board of this shape.
+   *
+   * @param armThickness the armThickness of the board
+   * @return the number of valid slots on the board
+   */
+  abstract long slotCount(int armThickness);
+}
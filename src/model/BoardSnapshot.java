@@ -0,0 +1,94 @@
+package model;
+
+/**
+ * An immutable view of a marble solitaire board as it was at one point of a game, which can be
+ * read and rendered on any thread while the game keeps being played on the model it was taken
+ * from.
+ *
+ * <p>
+ *   A snapshot does not copy the board when it is taken. It shares the board array of the model,
+ *   and the model copies the array the next time it changes a slot instead, so the array of a
+ *   snapshot is never written again. Every field is final, so a snapshot handed to another thread
+ *   always shows the whole board as it was and never a board in the middle of a move.
+ * </p>
+ */
+public final class BoardSnapshot implements MarbleSolitaireModelState {
+
+  private static final SlotState[] SLOT_STATES = SlotState.values();
+
+  // only used for the shape of the board, which never changes, and never for its slots
+  private final AbstractSolitaireModel shape;
+  private final byte[] board;
+  private final int boardSize;
+  private final int score;
+
+  /**
+   * Constructor for a snapshot of the specified board, which must never be changed again.
+   *
+   * @param shape the model the snapshot is taken from
+   * @param board the board array of the model
+   * @param score the number of marbles on the board
+   */
+  BoardSnapshot(AbstractSolitaireModel shape, byte[] board, int score) {
+    this.shape = shape;
+    this.board = board;
+    this.boardSize = shape.boardSize;
+    this.score = score;
+  }
+
+  @Override
+  public int getBoardSize() {
+    return this.boardSize;
+  }
+
+  @Override
+  public SlotState getSlotAt(int row, int col) throws IllegalArgumentException {
+    if (row < 0 || row >= this.boardSize || col < 0 || col >= this.boardSize) {
+      throw new IllegalArgumentException("Row and/or column are beyond the dimensions of the "
+              + "board!");
+    } else if (col >= this.shape.storedRowLength(row)) {
+      // slots past the stored part of a row are never a part of the playing area
+      return SlotState.Invalid;
+    } else {
+      return SLOT_STATES[this.board[this.shape.index(row, col)]];
+    }
+  }
+
+  /**
+   * Returns the first valid column of the specified row from the span of the row, without
+   * looking at any slots.
+   */
+  @Override
+  public int getRowStart(int row) throws IllegalArgumentException {
+    return this.shape.getRowStart(row);
+  }
+
+  /**
+   * Returns the column just past the last valid column of the specified row from the span of the
+   * row, without looking at any slots.
+   */
+  @Override
+  public int getRowEnd(int row) throws IllegalArgumentException {
+    return this.shape.getRowEnd(row);
+  }
+
+  @Override
+  public void copyRow(int row, byte[] dst) throws IllegalArgumentException {
+    this.shape.copyRowOf(this.board, row, dst);
+  }
+
+  @Override
+  public void copyBoard(byte[] dst) throws IllegalArgumentException {
+    this.shape.copyBoardOf(this.board, dst);
+  }
+
+  @Override
+  public void copyOccupancy(long[] dst) throws IllegalArgumentException {
+    this.shape.copyOccupancyOf(this.board, dst);
+  }
+
+  @Override
+  public int getScore() {
+    return this.score;
+  }
+}
@@ -0,0 +1,286 @@
+package model;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.IntConsumer;
+
+/**
+ * A marble solitaire model which can be played and read by many threads at once, such as two
+ * controllers playing the same board together while another thread analyzes it. It wraps any
+ * other model and guards it with a {@link StampedLock}.
+ *
+ * <p>
+ *   Every move is checked and made while holding the write lock, so no two moves can ever be
+ *   checked against the same board and both made. Reading a slot, the score, or whether the game
+ *   is over first reads the model without taking any lock and then makes sure that no move was
+ *   made in the meantime, only taking the read lock and reading again if one was. Readers
+ *   therefore never write to memory shared with each other and scale with the number of cores,
+ *   as long as moves are rare compared to reads.
+ * </p>
+ */
+public class ConcurrentSolitaireModel implements MarbleSolitaireModel {
+
+  private final MarbleSolitaireModel model;
+  private final StampedLock lock;
+
+  /**
+   * Constructor for a model which makes the specified model safe to use from many threads. The
+   * specified model should not be used directly once it has been wrapped.
+   *
+   * @param model the model being wrapped
+   * @throws IllegalArgumentException if the model is null
+   */
+  public ConcurrentSolitaireModel(MarbleSolitaireModel model) throws IllegalArgumentException {
+    if (model == null) {
+      throw new IllegalArgumentException("Model cannot be null!");
+    }
+    this.model = model;
+    this.lock = new StampedLock();
+  }
+
+  @Override
+  public void move(int fromRow, int fromCol, int toRow, int toCol) throws IllegalArgumentException {
+    long stamp = this.lock.writeLock();
+    try {
+      this.model.move(fromRow, fromCol, toRow, toCol);
+    } finally {
+      this.lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public int tryMove(int fromRow, int fromCol, int toRow, int toCol) {
+    long stamp = this.lock.writeLock();
+    try {
+      return this.model.tryMove(fromRow, fromCol, toRow, toCol);
+    } finally {
+      this.lock.unlockWrite(stamp);
+    }
+  }
+
+  /**
+   * Makes the whole batch of moves while holding the write lock, so that no other thread can
+   * make a move or see the board in the middle of the batch.
+   */
+  @Override
+  public int applyMoves(int[] packedMoves, int offset, int count)
+          throws IllegalArgumentException, IllegalStateException {
+    long stamp = this.lock.writeLock();
+    try {
+      return this.model.applyMoves(packedMoves, offset, count);
+    } finally {
+      this.lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public boolean undo() {
+    long stamp = this.lock.writeLock();
+    try {
+      return this.model.undo();
+    } finally {
+      this.lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public boolean redo() {
+    long stamp = this.lock.writeLock();
+    try {
+      return this.model.redo();
+    } finally {
+      this.lock.unlockWrite(stamp);
+    }
+  }
+
+  /**
+   * Registers the listener with the wrapped model while holding the write lock. The listener is
+   * then told about every move on the thread that made it, while that thread still holds the
+   * write lock.
+   */
+  @Override
+  public boolean addMoveListener(MoveListener listener) throws IllegalArgumentException {
+    long stamp = this.lock.writeLock();
+    try {
+      return this.model.addMoveListener(listener);
+    } finally {
+      this.lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public boolean removeMoveListener(MoveListener listener) {
+    long stamp = this.lock.writeLock();
+    try {
+      return this.model.removeMoveListener(listener);
+    } finally {
+      this.lock.unlockWrite(stamp);
+    }
+  }
+
+  /**
+   * Goes through the legal moves while holding the read lock, so that the action sees every move
+   * of one board exactly once and no move can be made until it is done.
+   */
+  @Override
+  public void forEachLegalMove(IntConsumer action) throws IllegalStateException {
+    long stamp = this.lock.readLock();
+    try {
+      this.model.forEachLegalMove(action);
+    } finally {
+      this.lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * Writes the legal moves of one board into the array while holding the read lock.
+   */
+  @Override
+  public int legalMoves(int[] out) throws IllegalStateException {
+    long stamp = this.lock.readLock();
+    try {
+      return this.model.legalMoves(out);
+    } finally {
+      this.lock.unlockRead(stamp);
+    }
+  }
+
+  @Override
+  public boolean isGameOver() {
+    long stamp = this.lock.tryOptimisticRead();
+    if (stamp != 0) {
+      boolean over = this.model.isGameOver();
+      if (this.lock.validate(stamp)) {
+        return over;
+      }
+    }
+    // a move was being made while reading, so read again once it is done
+    stamp = this.lock.readLock();
+    try {
+      return this.model.isGameOver();
+    } finally {
+      this.lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * Returns the size of the wrapped board, which never changes and needs no lock.
+   */
+  @Override
+  public int getBoardSize() {
+    return this.model.getBoardSize();
+  }
+
+  @Override
+  public SlotState getSlotAt(int row, int col) throws IllegalArgumentException {
+    long stamp = this.lock.tryOptimisticRead();
+    if (stamp != 0) {
+      try {
+        SlotState slot = this.model.getSlotAt(row, col);
+        if (this.lock.validate(stamp)) {
+          return slot;
+        }
+      } catch (RuntimeException e) {
+        // the exception only counts if the board did not change while reading
+        if (this.lock.validate(stamp)) {
+          throw e;
+        }
+      }
+    }
+    // a move was being made while reading, so read again once it is done
+    stamp = this.lock.readLock();
+    try {
+      return this.model.getSlotAt(row, col);
+    } finally {
+      this.lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * Returns the first valid column of the row of the wrapped board, which only depends on the
+   * shape of the board but is still read under the lock in case the wrapped model finds it by
+   * looking at its slots.
+   */
+  @Override
+  public int getRowStart(int row) throws IllegalArgumentException {
+    long stamp = this.lock.readLock();
+    try {
+      return this.model.getRowStart(row);
+    } finally {
+      this.lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * Returns the column just past the last valid column of the row of the wrapped board, read
+   * under the lock the same way as {@link #getRowStart}.
+   */
+  @Override
+  public int getRowEnd(int row) throws IllegalArgumentException {
+    long stamp = this.lock.readLock();
+    try {
+      return this.model.getRowEnd(row);
+    } finally {
+      this.lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * Copies the row of the wrapped board while holding the read lock, so that the whole row comes
+   * from the same board.
+   */
+  @Override
+  public void copyRow(int row, byte[] dst) throws IllegalArgumentException {
+    long stamp = this.lock.readLock();
+    try {
+      this.model.copyRow(row, dst);
+    } finally {
+      this.lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * Copies the wrapped board while holding the read lock, so that no move is made halfway
+   * through copying it.
+   */
+  @Override
+  public void copyBoard(byte[] dst) throws IllegalArgumentException {
+    long stamp = this.lock.readLock();
+    try {
+      this.model.copyBoard(dst);
+    } finally {
+      this.lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * Copies the marbles of the wrapped board while holding the read lock, the same way as
+   * {@link #copyBoard}.
+   */
+  @Override
+  public void copyOccupancy(long[] dst) throws IllegalArgumentException {
+    long stamp = this.lock.readLock();
+    try {
+      this.model.copyOccupancy(dst);
+    } finally {
+      this.lock.unlockRead(stamp);
+    }
+  }
+
+  @Override
+  public int getScore() {
+    long stamp = this.lock.tryOptimisticRead();
+    if (stamp != 0) {
+      int score = this.model.getScore();
+      if (this.lock.validate(stamp)) {
+        return score;
+      }
+    }
+    // a move was being made while reading, so read again once it is done
+    stamp = this.lock.readLock();
+    try {
+      return this.model.getScore();
+    } finally {
+      this.lock.unlockRead(stamp);
+    }
+  }
+}
@@ -55,18 +55,88 @@ public class EnglishSolitaireModel extends AbstractSolitaireModel {
   }
 
   /**
-   * Determines if a spot is invalid on an EnglishSolitaireModel. Determines if a slot is in one
-   * of the corners.
+   * A constructor for creating an EnglishSolitaireModel in exactly the same state as the specified
+   * one.
    *
-   * @param row the row of the slot
-   * @param col the column of the slot
-   * @return a boolean determining whether the slot is invalid
+   * @param other the model being copied
    */
+  protected EnglishSolitaireModel(EnglishSolitaireModel other) {
+    super(other);
+  }
+
   @Override
-  protected boolean isInvalidSpot(int row, int col) {
-    // the slot is in one of the corners which is not a part of the '+' playing board
-    return (((row <= this.armThickness - 2) || (row >= this.armThickness * 2 - 1))
-            && ((col <= this.armThickness - 2) || (col >= this.armThickness * 2 - 1)));
+  public EnglishSolitaireModel copy() {
+    return new EnglishSolitaireModel(this);
+  }
+
+  /**
+   * Returns the first valid column of a row on an EnglishSolitaireModel, which is past the
+   * corners for the rows of the top and bottom arms of the plus.
+   *
+   * @param row the row of the board
+   * @return the first valid column of the row
+   */
+  @Override
+  protected int rowStart(int row) {
+    return englishRowStart(this.armThickness, row);
   }
-}
 
+  /**
+   * Returns the column just past the last valid column of a row on an EnglishSolitaireModel,
+   * which is before the corners for the rows of the top and bottom arms of the plus.
+   *
+   * @param row the row of the board
+   * @return one more than the last valid column of the row
+   */
+  @Override
+  protected int rowEnd(int row) {
+    return englishRowEnd(this.armThickness, row);
+  }
+
+  /**
+   * Returns the first valid column of a row on an English board with the specified arm
+   * thickness, which is shared with the other models of an English board that do not extend
+   * this class.
+   *
+   * @param armThickness the armThickness of the board
+   * @param row          the row of the board
+   * @return the first valid column of the row
+   */
+  static int englishRowStart(int armThickness, int row) {
+    // the rows of the top and bottom arms only have the middle armThickness columns
+    if (row <= armThickness - 2 || row >= armThickness * 2 - 1) {
+      return armThickness - 1;
+    }
+    return 0;
+  }
+
+  /**
+   * Returns the column just past the last valid column of a row on an English board with the
+   * specified arm thickness, which is shared with the other models of an English board that do
+   * not extend this class.
+   *
+   * @param armThickness the armThickness of the board
+   * @param row          the row of the board
+   * @return one more than the last valid column of the row
+   */
+  static int englishRowEnd(int armThickness, int row) {
+    if (row <= armThickness - 2 || row >= armThickness * 2 - 1) {
+      return armThickness * 2 - 1;
+    }
+    return armThickness * 3 - 2;
+  }
+
+  /**
+   * Returns the number of slots in the '+' of an English board with the specified arm
+   * thickness, which is the whole square without its four corners of (armThickness - 1) by
+   * (armThickness - 1) slots.
+   *
+   * @param armThickness the armThickness of the board
+   * @return the number of valid slots on the board
+   */
+  static long englishSlotCount(int armThickness) {
+    long size = armThickness * 3L - 2;
+    long corner = (long) (armThickness - 1) * (armThickness - 1);
+    return size * size - 4 * corner;
+  }
+}
@@ -54,22 +54,97 @@ public class EuropeanSolitaireModel extends AbstractSolitaireModel {
   }
 
   /**
-   * Determines if the slot is not a part of the octagon board.
+   * A constructor for creating a EuropeanSolitaireModel in exactly the same state as the specified
+   * one.
    *
-   * @param row the row of the slot
-   * @param col the column of the slot
-   * @return a boolean representing whether the slot (row and col) is invalid and not on the octagon
+   * @param other the model being copied
+   */
+  protected EuropeanSolitaireModel(EuropeanSolitaireModel other) {
+    super(other);
+  }
+
+  @Override
+  public EuropeanSolitaireModel copy() {
+    return new EuropeanSolitaireModel(this);
+  }
+
+  /**
+   * Returns the first valid column of a row of the octagon board, which moves one column
+   * further in for every row closer to the top or the bottom of the board.
+   *
+   * @param row the row of the board
+   * @return the first valid column of the row
    */
   @Override
-  protected boolean isInvalidSpot(int row, int col) {
-    return
-            // invalid in topLeft
-            (row <= this.armThickness - 2 && (col <= this.armThickness - row - 2))
-            // invalid in bottomLeft
-            || (row >= this.armThickness * 2 - 1 && (col >= this.armThickness * 5 - row - 4))
-            // invalid in topRight
-            || (row <= this.armThickness - 2 && (col >= this.armThickness * 2 + row - 1))
-            // invalid in bottomLeft
-            || (row >= this.armThickness * 2 - 1 && (col <= row - 2 * this.armThickness + 1));
+  protected int rowStart(int row) {
+    return europeanRowStart(this.armThickness, row);
+  }
+
+  /**
+   * Returns the column just past the last valid column of a row of the octagon board, which
+   * moves one column further in for every row closer to the top or the bottom of the board.
+   *
+   * @param row the row of the board
+   * @return one more than the last valid column of the row
+   */
+  @Override
+  protected int rowEnd(int row) {
+    return europeanRowEnd(this.armThickness, row);
+  }
+
+  /**
+   * Returns the first valid column of a row on a European board with the specified arm
+   * thickness, which is shared with the other models of a European board that do not extend
+   * this class.
+   *
+   * @param armThickness the armThickness of the board
+   * @param row          the row of the board
+   * @return the first valid column of the row
+   */
+  static int europeanRowStart(int armThickness, int row) {
+    // the row is cut by the topLeft corner
+    if (row <= armThickness - 2) {
+      return armThickness - row - 1;
+    }
+    // the row is cut by the bottomLeft corner
+    else if (row >= armThickness * 2 - 1) {
+      return row - armThickness * 2 + 2;
+    }
+    return 0;
+  }
+
+  /**
+   * Returns the column just past the last valid column of a row on a European board with the
+   * specified arm thickness, which is shared with the other models of a European board that do
+   * not extend this class.
+   *
+   * @param armThickness the armThickness of the board
+   * @param row          the row of the board
+   * @return one more than the last valid column of the row
+   */
+  static int europeanRowEnd(int armThickness, int row) {
+    // the row is cut by the topRight corner
+    if (row <= armThickness - 2) {
+      return armThickness * 2 + row - 1;
+    }
+    // the row is cut by the bottomRight corner
+    else if (row >= armThickness * 2 - 1) {
+      return armThickness * 5 - row - 4;
+    }
+    return armThickness * 3 - 2;
+  }
+
+  /**
+   * Returns the number of slots in the octagon of a European board with the specified arm
+   * thickness, which is the whole square without its four corner triangles, each of which
+   * covers 1 + 2 + ... + (armThickness - 1) slots.
+   *
+   * @param armThickness the armThickness of the board
+   * @return the number of valid slots on the board
+   */
+  static long europeanSlotCount(int armThickness) {
+    long size = armThickness * 3L - 2;
+    long corner = (long) (armThickness - 1) * armThickness / 2;
+    return size * size - 4 * corner;
   }
 }
@@ -0,0 +1,226 @@
+package model;
+
+/**
+ * The rules of a jump, written once over a view of the slots of a board so that every model
+ * plays by the same rules no matter how it stores its board. A model only has to say which
+ * directions its marbles jump in, which jumps stay on its valid board, and what is in a slot.
+ */
+final class JumpRules {
+
+  private static final int EMPTY = MarbleSolitaireModelState.SlotState.Empty.ordinal();
+  private static final int MARBLE = MarbleSolitaireModelState.SlotState.Marble.ordinal();
+
+  /**
+   * The slots of a board as seen by the rules of a jump.
+   */
+  interface Slots {
+
+    /**
+     * Returns the number of directions that a marble can jump in on this board.
+     *
+     * @return the number of directions
+     */
+    int directionCount();
+
+    /**
+     * Returns the change in row of a single step in the specified direction.
+     *
+     * @param d the index of the direction
+     * @return the change in row of a single step
+     */
+    int rowStep(int d);
+
+    /**
+     * Returns the change in column of a single step in the specified direction.
+     *
+     * @param d the index of the direction
+     * @return the change in column of a single step
+     */
+    int colStep(int d);
+
+    /**
+     * Returns the direction of the jump between the specified slots, by looking for the
+     * direction in which the to slot is two steps away from the from slot.
+     *
+     * @param fromRow the row of the from slot
+     * @param fromCol the column of the from slot
+     * @param toRow   the row of the to slot
+     * @param toCol   the column of the to slot
+     * @return the index of the direction, or -1 if the to slot is not two steps away in any
+     *         direction
+     */
+    default int directionOf(int fromRow, int fromCol, int toRow, int toCol) {
+      for (int d = 0; d < this.directionCount(); d++) {
+        if (toRow - fromRow == 2 * this.rowStep(d) && toCol - fromCol == 2 * this.colStep(d)) {
+          return d;
+        }
+      }
+      return -1;
+    }
+
+    /**
+     * Determines if a slot specified by the row and column is not on the board at all.
+     *
+     * @param row the row of the slot
+     * @param col the column of the slot
+     * @return true if the slot is out of bounds, false otherwise
+     */
+    boolean isOutOfBounds(int row, int col);
+
+    /**
+     * Determines whether all three slots of a jump from the specified slot in the specified
+     * direction are a part of the valid playing area. The slot does not have to be on the board.
+     *
+     * @param row the row of the from slot of the jump
+     * @param col the column of the from slot of the jump
+     * @param d   the index of the direction of the jump
+     * @return true if the jump stays on the valid board
+     */
+    boolean isJumpOnBoard(int row, int col, int d);
+
+    /**
+     * Reads the state of a slot that is a part of the valid playing area.
+     *
+     * @param row the row of the slot
+     * @param col the column of the slot
+     * @return the ordinal of the SlotState of the slot, which is either Empty or Marble
+     */
+    int readSlot(int row, int col);
+  }
+
+  /**
+   * The rules are only used through the static methods, so there is nothing to construct.
+   */
+  private JumpRules() {
+  }
+
+  /**
+   * Finds out whether a move can be made, and why it cannot otherwise, without changing the
+   * board.
+   *
+   * @param slots   the slots of the board
+   * @param fromRow the row of the from slot
+   * @param fromCol the column of the from slot
+   * @param toRow   the row of the to slot
+   * @param toCol   the column of the to slot
+   * @return {@link MoveResult#OK} or the reason the move cannot be made
+   */
+  static int checkMove(Slots slots, int fromRow, int fromCol, int toRow, int toCol) {
+    // either the from or to slot are not on the board
+    if (slots.isOutOfBounds(fromRow, fromCol) || slots.isOutOfBounds(toRow, toCol)) {
+      return MoveResult.OUT_OF_BOUNDS;
+    }
+    int direction = slots.directionOf(fromRow, fromCol, toRow, toCol);
+    // the to slot is not two steps away in any direction, or the jump leaves the valid board
+    if (direction == -1 || !slots.isJumpOnBoard(fromRow, fromCol, direction)) {
+      return MoveResult.NOT_A_JUMP;
+    }
+    // Making sure that the from slot has a marble, the slot in between has a marble, and the
+    // to slot is empty.
+    if (slots.readSlot(fromRow, fromCol) != MARBLE
+            || slots.readSlot((fromRow + toRow) / 2, (fromCol + toCol) / 2) != MARBLE) {
+      return MoveResult.NO_MARBLE;
+    } else if (slots.readSlot(toRow, toCol) != EMPTY) {
+      return MoveResult.OCCUPIED_TARGET;
+    }
+    return MoveResult.OK;
+  }
+
+  /**
+   * Determines whether a jump from the specified slot in the specified direction, which is known
+   * to stay on the valid board, can currently be made.
+   *
+   * @param slots the slots of the board
+   * @param row   the row of the from slot of the jump
+   * @param col   the column of the from slot of the jump
+   * @param d     the index of the direction of the jump
+   * @return true if the from slot and the slot in between have marbles and the to slot is empty
+   */
+  static boolean isValidJump(Slots slots, int row, int col, int d) {
+    int rowStep = slots.rowStep(d);
+    int colStep = slots.colStep(d);
+    return slots.readSlot(row, col) == MARBLE
+            && slots.readSlot(row + rowStep, col + colStep) == MARBLE
+            && slots.readSlot(row + 2 * rowStep, col + 2 * colStep) == EMPTY;
+  }
+
+  /**
+   * Determines whether a jump from the specified slot in the specified direction stays on the
+   * valid board and can currently be made. The slot does not have to be on the board.
+   *
+   * @param slots the slots of the board
+   * @param row   the row of the from slot of the jump
+   * @param col   the column of the from slot of the jump
+   * @param d     the index of the direction of the jump
+   * @return true if the jump can be made
+   */
+  static boolean canJump(Slots slots, int row, int col, int d) {
+    return slots.isJumpOnBoard(row, col, d) && isValidJump(slots, row, col, d);
+  }
+
+  /**
+   * Counts the valid moves that go through at least one of the three slots changed by a move.
+   * A move going through more than one of the three slots is only counted once.
+   *
+   * @param slots   the slots of the board
+   * @param fromRow the row of the from slot of the move changing the board
+   * @param fromCol the column of the from slot of the move changing the board
+   * @param overRow the row of the slot in between of the move changing the board
+   * @param overCol the column of the slot in between of the move changing the board
+   * @param toRow   the row of the to slot of the move changing the board
+   * @param toCol   the column of the to slot of the move changing the board
+   * @return the number of valid moves that go through any of the three slots
+   */
+  static int countValidMovesThrough(Slots slots, int fromRow, int fromCol, int overRow,
+                                    int overCol, int toRow, int toCol) {
+    int count = 0;
+    for (int d = 0; d < slots.directionCount(); d++) {
+      int rowStep = slots.rowStep(d);
+      int colStep = slots.colStep(d);
+      // the changed slot can be the first, second, or third slot of a move in this direction
+      for (int k = 0; k < 3; k++) {
+        int startRow = fromRow - k * rowStep;
+        int startCol = fromCol - k * colStep;
+        if (canJump(slots, startRow, startCol, d)) {
+          count += 1;
+        }
+        startRow = overRow - k * rowStep;
+        startCol = overCol - k * colStep;
+        if (!jumpGoesThrough(slots, startRow, startCol, d, fromRow, fromCol)
+                && canJump(slots, startRow, startCol, d)) {
+          count += 1;
+        }
+        startRow = toRow - k * rowStep;
+        startCol = toCol - k * colStep;
+        if (!jumpGoesThrough(slots, startRow, startCol, d, fromRow, fromCol)
+                && !jumpGoesThrough(slots, startRow, startCol, d, overRow, overCol)
+                && canJump(slots, startRow, startCol, d)) {
+          count += 1;
+        }
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Determines whether a jump from the specified slot in the specified direction has one of its
+   * three slots at the specified slot.
+   *
+   * @param slots     the slots of the board
+   * @param row       the row of the from slot of the jump
+   * @param col       the column of the from slot of the jump
+   * @param d         the index of the direction of the jump
+   * @param targetRow the row of the slot being looked for
+   * @param targetCol the column of the slot being looked for
+   * @return true if the from slot, the slot in between, or the to slot is the target slot
+   */
+  static boolean jumpGoesThrough(Slots slots, int row, int col, int d, int targetRow,
+                                 int targetCol) {
+    for (int k = 0; k < 3; k++) {
+      if (row + k * slots.rowStep(d) == targetRow && col + k * slots.colStep(d) == targetCol) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
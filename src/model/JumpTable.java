@@ -0,0 +1,132 @@
+package model;
+
+/**
+ * A precompiled table of every jump that is possible on the board of a variant of Marble
+ * Solitaire with a specific arm thickness, ignoring where the marbles currently are. A jump is a
+ * from slot, the slot in between, and the to slot, and the table stores it as the from slot and
+ * the direction of the jump, since the other two slots are always one and two steps away in
+ * that direction.
+ *
+ * <p>
+ *   The shape of a board only depends on its variant and arm thickness, so the table is built by
+ *   asking a model of that variant for its invalid spots and is then shared by every model of the
+ *   same variant and arm thickness while it stays in the {@link ShapeCache}. Models use it to
+ *   check and find moves without calling isInvalidSpot or isOutOfBounds again.
+ * </p>
+ */
+final class JumpTable {
+
+  private static final ShapeCache<JumpTable> CACHE = new ShapeCache<>();
+
+  private final int[] rowSteps;
+  private final int[] colSteps;
+  private final byte[] jumps;
+
+  /**
+   * Builds the jump table for the board of the specified model by checking every direction of
+   * every slot against its invalid spots.
+   *
+   * @param model the model whose board shape this table describes
+   */
+  private JumpTable(AbstractSolitaireModel model) {
+    int[][] directions = model.jumpDirections();
+    int boardSize = model.getBoardSize();
+    this.rowSteps = new int[directions.length];
+    this.colSteps = new int[directions.length];
+    for (int d = 0; d < directions.length; d++) {
+      this.rowSteps[d] = directions[d][0];
+      this.colSteps[d] = directions[d][1];
+    }
+
+    // the jumps of every slot are stored at the index of that slot in the board array of the
+    // model, so that they take up no more room than the board itself
+    this.jumps = new byte[model.slotCount()];
+    for (int i = 0; i < boardSize; i++) {
+      // only the slots in the span of the row are valid slots that a jump can start from
+      for (int j = model.rowStart(i); j < model.rowEnd(i); j++) {
+        for (int d = 0; d < directions.length; d++) {
+          int overRow = i + this.rowSteps[d];
+          int overCol = j + this.colSteps[d];
+          int toRow = overRow + this.rowSteps[d];
+          int toCol = overCol + this.colSteps[d];
+          // the slot in between and the to slot are both on the board and valid
+          if (!model.isOutOfBounds(toRow, toCol) && !model.isInvalidSpot(overRow, overCol)
+                  && !model.isInvalidSpot(toRow, toCol)) {
+            this.jumps[model.index(i, j)] |= (byte) (1 << d);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the jump table for the variant and arm thickness of the specified model, building
+   * it only if it is not cached for a model of the same variant and arm thickness, as described
+   * by {@link ShapeCache}.
+   *
+   * @param model the model whose board shape the table describes
+   * @return the shared jump table of this board shape
+   */
+  static JumpTable of(AbstractSolitaireModel model) {
+    return CACHE.get(model, () -> new JumpTable(model));
+  }
+
+  /**
+   * Returns the number of directions that a marble can jump in on this board.
+   *
+   * @return the number of directions
+   */
+  int directionCount() {
+    return this.rowSteps.length;
+  }
+
+  /**
+   * Returns the change in row of a single step in the specified direction.
+   *
+   * @param d the index of the direction
+   * @return the change in row of one step
+   */
+  int rowStep(int d) {
+    return this.rowSteps[d];
+  }
+
+  /**
+   * Returns the change in column of a single step in the specified direction.
+   *
+   * @param d the index of the direction
+   * @return the change in column of one step
+   */
+  int colStep(int d) {
+    return this.colSteps[d];
+  }
+
+  /**
+   * Determines the direction of a jump from one slot to another.
+   *
+   * @param fromRow the row of the from slot in the jump
+   * @param fromCol the column of the from slot in the jump
+   * @param toRow   the row of the to slot in the jump
+   * @param toCol   the column of the to slot in the jump
+   * @return the index of the direction whose jump lands two steps away on the to slot, or -1 if
+   *         the to slot is not two steps away in any of the directions
+   */
+  int directionOf(int fromRow, int fromCol, int toRow, int toCol) {
+    for (int d = 0; d < this.rowSteps.length; d++) {
+      if (toRow - fromRow == 2 * this.rowSteps[d] && toCol - fromCol == 2 * this.colSteps[d]) {
+        return d;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the directions that a marble at the specified slot could jump in if the slot in
+   * between had a marble and the to slot was empty.
+   *
+   * @param index the index of the from slot in the board array of the models using this table
+   * @return a bit mask with bit d set if the jump in direction d stays on the valid board
+   */
+  int jumpsFrom(int index) {
+    return this.jumps[index];
+  }
+}
@@ -0,0 +1,103 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * The set of moves that can currently be made on a board, which a model keeps up to date as its
+ * slots change so that a random legal move can be picked in constant time.
+ *
+ * <p>
+ *   Every jump of the board has a key, which is the index of its from slot in the board array of
+ *   the model times the number of directions plus its direction. The moves in the set are kept
+ *   packed together at the front of an array in no particular order, and a second array indexed
+ *   by key says where in the first array each move is, so adding and removing a move both take
+ *   constant time. A removed move is replaced by the last move of the set.
+ * </p>
+ */
+final class LegalMoveSet {
+
+  // the position of every jump in the moves array plus one, or 0 if the jump is not in the set
+  private final int[] positions;
+  // the packed moves in the set and the key of each of them, up to size
+  private int[] moves;
+  private int[] keys;
+  private int size;
+
+  /**
+   * Constructor for an empty set of the moves of a board with the specified number of keys.
+   *
+   * @param keyCount the number of slots of the board array times the number of directions
+   */
+  LegalMoveSet(int keyCount) {
+    this.positions = new int[keyCount];
+    this.moves = new int[16];
+    this.keys = new int[16];
+  }
+
+  /**
+   * Adds the jump with the specified key to the set, if it is not already in it.
+   *
+   * @param key  the key of the jump
+   * @param move the jump packed as described by {@link PackedMove}
+   */
+  void add(int key, int move) {
+    if (this.positions[key] != 0) {
+      return;
+    }
+    if (this.size == this.moves.length) {
+      this.moves = Arrays.copyOf(this.moves, this.size * 2);
+      this.keys = Arrays.copyOf(this.keys, this.size * 2);
+    }
+    this.moves[this.size] = move;
+    this.keys[this.size] = key;
+    this.size += 1;
+    this.positions[key] = this.size;
+  }
+
+  /**
+   * Removes the jump with the specified key from the set, if it is in it, by moving the last move
+   * of the set into its place.
+   *
+   * @param key the key of the jump
+   */
+  void remove(int key) {
+    int position = this.positions[key] - 1;
+    if (position < 0) {
+      return;
+    }
+    this.size -= 1;
+    this.moves[position] = this.moves[this.size];
+    this.keys[position] = this.keys[this.size];
+    this.positions[this.keys[position]] = position + 1;
+    this.positions[key] = 0;
+  }
+
+  /**
+   * Removes every move from the set, which only takes as long as the number of moves in it.
+   */
+  void clear() {
+    for (int i = 0; i < this.size; i++) {
+      this.positions[this.keys[i]] = 0;
+    }
+    this.size = 0;
+  }
+
+  /**
+   * Returns the number of moves in the set.
+   *
+   * @return the number of moves in the set
+   */
+  int size() {
+    return this.size;
+  }
+
+  /**
+   * Returns the move at the specified position of the set.
+   *
+   * @param i the position, from 0 up to but not including the size of the set
+   * @return the packed move at that position
+   */
+  int get(int i) {
+    return this.moves[i];
+  }
+}
@@ -1,5 +1,7 @@
 package model;
 
+import java.util.function.IntConsumer;
+
 /**
  * This interface represents the operations offered by the marble solitaire
  * model. One object of the model represents one game of marble solitaire.
@@ -22,6 +24,187 @@ public interface MarbleSolitaireModel extends MarbleSolitaireModelState {
    */
   void move(int fromRow, int fromCol, int toRow, int toCol) throws IllegalArgumentException;
 
+  /**
+   * Move a single marble from a given position to another given position if the move is valid,
+   * without throwing an exception if it is not. The board only changes if the result is
+   * {@link MoveResult#OK}.
+   *
+   * <p>
+   *   By default the move is made with {@link #move}, and a move that is not valid is then
+   *   looked at slot by slot to find out why. Implementations that can tell why a move is not
+   *   valid without trying it should override this method.
+   * </p>
+   *
+   * @param fromRow the row number of the position to be moved from
+   *                (starts at 0)
+   * @param fromCol the column number of the position to be moved from
+   *                (starts at 0)
+   * @param toRow   the row number of the position to be moved to
+   *                (starts at 0)
+   * @param toCol   the column number of the position to be moved to
+   *                (starts at 0)
+   * @return one of the result codes of {@link MoveResult}
+   */
+  default int tryMove(int fromRow, int fromCol, int toRow, int toCol) {
+    try {
+      this.move(fromRow, fromCol, toRow, toCol);
+      return MoveResult.OK;
+    } catch (IllegalArgumentException e) {
+      int boardSize = this.getBoardSize();
+      if (fromRow < 0 || fromRow >= boardSize || fromCol < 0 || fromCol >= boardSize
+              || toRow < 0 || toRow >= boardSize || toCol < 0 || toCol >= boardSize) {
+        return MoveResult.OUT_OF_BOUNDS;
+      }
+      // a jump always lands two slots away in the row, the column, or both
+      boolean twoAway = Math.max(Math.abs(toRow - fromRow), Math.abs(toCol - fromCol)) == 2
+              && (toRow - fromRow) % 2 == 0 && (toCol - fromCol) % 2 == 0;
+      SlotState to = this.getSlotAt(toRow, toCol);
+      if (!twoAway || to == SlotState.Invalid
+              || this.getSlotAt(fromRow, fromCol) == SlotState.Invalid) {
+        return MoveResult.NOT_A_JUMP;
+      } else if (this.getSlotAt(fromRow, fromCol) != SlotState.Marble
+              || this.getSlotAt((fromRow + toRow) / 2, (fromCol + toCol) / 2)
+              != SlotState.Marble) {
+        return MoveResult.NO_MARBLE;
+      } else if (to != SlotState.Empty) {
+        return MoveResult.OCCUPIED_TARGET;
+      }
+      return MoveResult.NOT_A_JUMP;
+    }
+  }
+
+  /**
+   * Make the moves in the specified part of the array one after another, each packed as
+   * described by {@link PackedMove}, stopping at the first move that is not valid. The moves
+   * before it stay made, and the board is left as it was after the last of them. Whether the
+   * game is over only needs to be checked once the whole batch has been made.
+   *
+   * <p>
+   *   By default every move is unpacked and made with {@link #tryMove}.
+   * </p>
+   *
+   * @param packedMoves the array holding the moves
+   * @param offset      the index of the first move to make
+   * @param count       the number of moves to make
+   * @return the number of moves made, which is count if every move was valid, or the position of
+   *         the first move that is not valid counting from offset otherwise
+   * @throws IllegalArgumentException if the array is null or the part of it is not inside it
+   * @throws IllegalStateException if the board is too large for its moves to be packed
+   */
+  default int applyMoves(int[] packedMoves, int offset, int count)
+          throws IllegalArgumentException, IllegalStateException {
+    PackedMove.checkRange(packedMoves, offset, count);
+    int boardSize = this.getBoardSize();
+    PackedMove.checkBoardSize(boardSize);
+    for (int i = 0; i < count; i++) {
+      int move = packedMoves[offset + i];
+      // a direction that no board has does not make a jump
+      if (PackedMove.direction(move) > PackedMove.DOWN_RIGHT
+              || this.tryMove(PackedMove.fromRow(move, boardSize),
+              PackedMove.fromCol(move, boardSize), PackedMove.toRow(move, boardSize),
+              PackedMove.toCol(move, boardSize)) != MoveResult.OK) {
+        return i;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Give every move that can currently be made to the specified action, packed as described by
+   * {@link PackedMove}, in order of the cell of the from slot and then of the direction. No
+   * objects are created for the moves, so the action is called with a primitive int.
+   *
+   * <p>
+   *   By default every slot with a marble is probed with {@link #getSlotAt} for a jump to the
+   *   left, right, up, or down. Implementations whose marbles can also jump diagonally, or that
+   *   can find their moves without looking at every slot, should override this method.
+   * </p>
+   *
+   * @param action the action called with every legal move
+   * @throws IllegalStateException if the board is too large for its moves to be packed
+   */
+  default void forEachLegalMove(IntConsumer action) throws IllegalStateException {
+    int boardSize = this.getBoardSize();
+    PackedMove.checkBoardSize(boardSize);
+    for (int row = 0; row < boardSize; row++) {
+      for (int col = 0; col < boardSize; col++) {
+        for (int d = PackedMove.LEFT; d <= PackedMove.DOWN; d++) {
+          if (PackedMove.isLegalJump(this, row, col, d)) {
+            action.accept(PackedMove.pack(row, col, d, boardSize));
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Write every move that can currently be made into the specified array, packed as described
+   * by {@link PackedMove} and in the same order as {@link #forEachLegalMove}. If there are more
+   * legal moves than the array can hold, only the first ones are written, but all of them are
+   * counted.
+   *
+   * <p>
+   *   By default the moves are collected from {@link #forEachLegalMove}.
+   * </p>
+   *
+   * @param out the array that the legal moves are written to, starting at index 0
+   * @return the number of legal moves, which may be more than the length of the array
+   * @throws IllegalStateException if the board is too large for its moves to be packed
+   */
+  default int legalMoves(int[] out) throws IllegalStateException {
+    int[] count = new int[1];
+    this.forEachLegalMove(move -> {
+      if (count[0] < out.length) {
+        out[count[0]] = move;
+      }
+      count[0] += 1;
+    });
+    return count[0];
+  }
+
+  /**
+   * Take back the last move that was made and has not been taken back yet, putting the board
+   * back the way it was before that move. By default a model cannot take back moves.
+   *
+   * @return true if a move was taken back, false if there is no move to take back
+   */
+  default boolean undo() {
+    return false;
+  }
+
+  /**
+   * Make the last move that was taken back again, as long as no other move has been made since
+   * it was taken back. By default a model cannot take back moves, so there is nothing to redo.
+   *
+   * @return true if a move was made again, false if there is no move to make again
+   */
+  default boolean redo() {
+    return false;
+  }
+
+  /**
+   * Register a listener to be told about every change to the board from now on, such as the three
+   * slots changed by every move. By default a model cannot tell listeners about its changes.
+   *
+   * @param listener the listener being registered
+   * @return true if the listener was registered, false if this model does not tell listeners
+   *         about its changes
+   * @throws IllegalArgumentException if the listener is null
+   */
+  default boolean addMoveListener(MoveListener listener) throws IllegalArgumentException {
+    return false;
+  }
+
+  /**
+   * Stop telling a listener registered with {@link #addMoveListener} about changes to the board.
+   *
+   * @param listener the listener being removed
+   * @return true if the listener was removed, false if it was not registered
+   */
+  default boolean removeMoveListener(MoveListener listener) {
+    return false;
+  }
+
   /**
    * Determine and return if the game is over or not. A game is over if no
    * more moves can be made.
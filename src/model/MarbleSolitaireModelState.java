@@ -1,5 +1,7 @@
 package model;
 
+import java.util.Arrays;
+
 /**
  * This interface represents operations that can be used to monitor the state of a marble solitaire
  * model, without changing it.
@@ -29,6 +31,117 @@ public interface MarbleSolitaireModelState {
    */
   SlotState getSlotAt(int row, int col) throws IllegalArgumentException;
 
+  /**
+   * Return the first column of the given row that is a part of the playing area. The slots of a
+   * row that are a part of the playing area are the columns from this one up to but not
+   * including {@link #getRowEnd}, and every other slot of the row is invalid. By default the row
+   * is searched slot by slot.
+   *
+   * @param row the row sought, starting at 0
+   * @return the first column of the row that is not invalid, or the size of the board if every
+   *         slot of the row is invalid
+   * @throws IllegalArgumentException if the row is beyond the dimensions of the board
+   */
+  default int getRowStart(int row) throws IllegalArgumentException {
+    int boardSize = this.getBoardSize();
+    if (row < 0 || row >= boardSize) {
+      throw new IllegalArgumentException("Row is beyond the dimensions of the board!");
+    }
+    int col = 0;
+    while (col < boardSize && this.getSlotAt(row, col) == SlotState.Invalid) {
+      col += 1;
+    }
+    return col;
+  }
+
+  /**
+   * Return the column just past the last column of the given row that is a part of the playing
+   * area. By default the row is searched slot by slot.
+   *
+   * @param row the row sought, starting at 0
+   * @return one more than the last column of the row that is not invalid, or the start of the
+   *         row if every slot of the row is invalid
+   * @throws IllegalArgumentException if the row is beyond the dimensions of the board
+   */
+  default int getRowEnd(int row) throws IllegalArgumentException {
+    int start = this.getRowStart(row);
+    int col = this.getBoardSize();
+    while (col > start && this.getSlotAt(row, col - 1) == SlotState.Invalid) {
+      col -= 1;
+    }
+    return col;
+  }
+
+  /**
+   * Copy the state of every slot of the given row into the given array, as the ordinal of its
+   * {@link SlotState}, with the slot in column j going to index j. This is the same as calling
+   * {@link #getSlotAt} for every column of the row, which is what it does by default.
+   *
+   * @param row the row sought, starting at 0
+   * @param dst the array the row is copied into, which must hold at least the size of the board
+   * @throws IllegalArgumentException if the row is beyond the dimensions of the board or the
+   *                                  array is too short to hold the row
+   */
+  default void copyRow(int row, byte[] dst) throws IllegalArgumentException {
+    int boardSize = this.getBoardSize();
+    if (row < 0 || row >= boardSize) {
+      throw new IllegalArgumentException("Row is beyond the dimensions of the board!");
+    } else if (dst.length < boardSize) {
+      throw new IllegalArgumentException("The array is too short to hold a row!");
+    }
+    for (int col = 0; col < boardSize; col++) {
+      dst[col] = (byte) this.getSlotAt(row, col).ordinal();
+    }
+  }
+
+  /**
+   * Copy the state of every slot of the board into the given array, as the ordinal of its
+   * {@link SlotState}, with the slot at the given row and column going to index
+   * row * boardSize + col. By default every row is copied with {@link #copyRow}.
+   *
+   * @param dst the array the board is copied into, which must hold at least the square of the
+   *            size of the board
+   * @throws IllegalArgumentException if the array is too short to hold the board
+   */
+  default void copyBoard(byte[] dst) throws IllegalArgumentException {
+    int boardSize = this.getBoardSize();
+    if (dst.length < (long) boardSize * boardSize) {
+      throw new IllegalArgumentException("The array is too short to hold the board!");
+    }
+    byte[] row = new byte[boardSize];
+    for (int i = 0; i < boardSize; i++) {
+      this.copyRow(i, row);
+      System.arraycopy(row, 0, dst, i * boardSize, boardSize);
+    }
+  }
+
+  /**
+   * Copy which slots of the board have a marble into the given array of bits, where bit
+   * row * boardSize + col is set if the slot at that row and column has a marble, counting the
+   * bits of each long from the lowest one up. Every other bit of the board is cleared. By default
+   * every slot is looked at with {@link #getSlotAt}.
+   *
+   * @param dst the array the bits are copied into, which must hold at least the square of the
+   *            size of the board in bits
+   * @throws IllegalArgumentException if the array is too short to hold a bit for every slot
+   */
+  default void copyOccupancy(long[] dst) throws IllegalArgumentException {
+    int boardSize = this.getBoardSize();
+    long slots = (long) boardSize * boardSize;
+    if (dst.length < (slots + 63) / 64) {
+      throw new IllegalArgumentException("The array is too short to hold the board!");
+    }
+    Arrays.fill(dst, 0, (int) ((slots + 63) / 64), 0L);
+    for (int i = 0; i < boardSize; i++) {
+      for (int j = 0; j < boardSize; j++) {
+        if (this.getSlotAt(i, j) == SlotState.Marble) {
+          int bit = i * boardSize + j;
+          dst[bit >>> 6] |= 1L << bit;
+        }
+      }
+    }
+  }
+
   /**
    * Return the number of marbles currently on the board.
    *
@@ -0,0 +1,36 @@
+package model;
+
+/**
+ * A listener which is told about every change to the board of a marble solitaire model, so that
+ * views, journals, and other observers of a game only have to look at the slots that changed
+ * instead of the whole board.
+ *
+ * <p>
+ *   A move always changes exactly three slots: the from slot, the slot in between, which is
+ *   halfway between the from slot and the to slot, and the to slot. The event of a move is just
+ *   the rows and columns of its from and to slots, so telling a listener about it creates no
+ *   objects.
+ * </p>
+ */
+public interface MoveListener {
+
+  /**
+   * Called after a move has been made on the board or taken back. A move that was made emptied
+   * the from slot and the slot in between and filled the to slot, and a move that was taken back
+   * did the opposite.
+   *
+   * @param fromRow the row of the from slot of the move
+   * @param fromCol the column of the from slot of the move
+   * @param toRow   the row of the to slot of the move
+   * @param toCol   the column of the to slot of the move
+   * @param undone  true if the move was taken back, false if it was made
+   */
+  void moveMade(int fromRow, int fromCol, int toRow, int toCol, boolean undone);
+
+  /**
+   * Called after the board has changed in some way other than a single move, such as being reset
+   * to the start of a game, after which any slot may have changed. By default nothing is done.
+   */
+  default void boardChanged() {
+  }
+}
@@ -0,0 +1,74 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * The listeners registered on a model, which the model tells about every change to its board.
+ * The listeners are kept in an array which is replaced rather than changed when a listener is
+ * added or removed, so telling them about a move never creates an object, and costs nothing more
+ * than checking the length of an empty array when there are no listeners.
+ */
+final class MoveListeners {
+
+  private static final MoveListener[] NONE = new MoveListener[0];
+
+  private MoveListener[] listeners = NONE;
+
+  /**
+   * Adds a listener, which is told about every change after the ones already added.
+   *
+   * @param listener the listener being added
+   * @throws IllegalArgumentException if the listener is null
+   */
+  void add(MoveListener listener) throws IllegalArgumentException {
+    if (listener == null) {
+      throw new IllegalArgumentException("Listener cannot be null!");
+    }
+    MoveListener[] added = Arrays.copyOf(this.listeners, this.listeners.length + 1);
+    added[this.listeners.length] = listener;
+    this.listeners = added;
+  }
+
+  /**
+   * Removes the first registration of the specified listener, if there is one.
+   *
+   * @param listener the listener being removed
+   * @return true if the listener was removed, false if it was not registered
+   */
+  boolean remove(MoveListener listener) {
+    for (int i = 0; i < this.listeners.length; i++) {
+      if (this.listeners[i] == listener) {
+        MoveListener[] removed = new MoveListener[this.listeners.length - 1];
+        System.arraycopy(this.listeners, 0, removed, 0, i);
+        System.arraycopy(this.listeners, i + 1, removed, i, removed.length - i);
+        this.listeners = removed.length == 0 ? NONE : removed;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Tells every listener about a move that was made or taken back.
+   *
+   * @param fromRow the row of the from slot of the move
+   * @param fromCol the column of the from slot of the move
+   * @param toRow   the row of the to slot of the move
+   * @param toCol   the column of the to slot of the move
+   * @param undone  true if the move was taken back, false if it was made
+   */
+  void fireMove(int fromRow, int fromCol, int toRow, int toCol, boolean undone) {
+    for (MoveListener listener : this.listeners) {
+      listener.moveMade(fromRow, fromCol, toRow, toCol, undone);
+    }
+  }
+
+  /**
+   * Tells every listener that the board has changed in some way other than a single move.
+   */
+  void fireBoardChanged() {
+    for (MoveListener listener : this.listeners) {
+      listener.boardChanged();
+    }
+  }
+}
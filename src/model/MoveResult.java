@@ -0,0 +1,56 @@
+package model;
+
+/**
+ * The result codes returned by {@link MarbleSolitaireModel#tryMove}, which say whether a move
+ * was made and, if it was not, the first reason that it could not be made. They are plain ints
+ * so that checking a move that cannot be made costs no more than checking one that can.
+ */
+public final class MoveResult {
+
+  /**
+   * The move was valid and has been made.
+   */
+  public static final int OK = 0;
+
+  /**
+   * The from slot or the to slot is not on the board.
+   */
+  public static final int OUT_OF_BOUNDS = 1;
+
+  /**
+   * The to slot is not two slots away from the from slot in one of the directions of the board,
+   * or the jump goes through a slot that is not a part of the playing area.
+   */
+  public static final int NOT_A_JUMP = 2;
+
+  /**
+   * The from slot or the slot in between does not have a marble.
+   */
+  public static final int NO_MARBLE = 3;
+
+  /**
+   * The to slot already has a marble.
+   */
+  public static final int OCCUPIED_TARGET = 4;
+
+  /**
+   * There are no objects of this class, only its result codes.
+   */
+  private MoveResult() {
+  }
+
+  /**
+   * Turns the result of a move which was not made into the exception thrown by the move method
+   * of the models, so that move and tryMove always agree on which moves are valid.
+   *
+   * @param result the result code of the move
+   * @throws IllegalArgumentException if the result is any code other than OK
+   */
+  static void requireOk(int result) throws IllegalArgumentException {
+    if (result == OUT_OF_BOUNDS) {
+      throw new IllegalArgumentException("Either the from or to slot is not on the board!");
+    } else if (result != OK) {
+      throw new IllegalArgumentException("This is not a valid move!");
+    }
+  }
+}
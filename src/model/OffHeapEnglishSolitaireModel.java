@@ -0,0 +1,62 @@
+package model;
+
+/**
+ * This class represents a model of the English variant of Marble Solitaire, with the '+' shaped
+ * board, which keeps its board in direct memory outside of the Java heap. It plays exactly like
+ * an {@link EnglishSolitaireModel} and is meant for boards with an arm thickness in the tens of
+ * thousands.
+ */
+public class OffHeapEnglishSolitaireModel extends OffHeapSolitaireModel {
+
+  /**
+   * A constructor for creating an OffHeapEnglishSolitaireModel with the specified board size and
+   * the empty slot at the middle.
+   *
+   * @param armThickness the armThickness of the board
+   * @throws IllegalArgumentException if the armThickness is not a positive odd integer greater
+   *                                  than 3
+   */
+  public OffHeapEnglishSolitaireModel(int armThickness) throws IllegalArgumentException {
+    super(armThickness, (armThickness - 1) / 2 * 3, (armThickness - 1) / 2 * 3);
+  }
+
+  /**
+   * A constructor for creating an OffHeapEnglishSolitaireModel with the specified board size and
+   * the empty slot at the specified slot.
+   *
+   * @param armThickness the armThickness of the board
+   * @param sRow         the row of the empty slot
+   * @param sCol         the column of the empty slot
+   * @throws IllegalArgumentException if the armThickness is not a positive odd integer greater
+   *                                  than 3 or if the specified invalid slot is not a part of the
+   *                                  plus
+   */
+  public OffHeapEnglishSolitaireModel(int armThickness, int sRow, int sCol)
+          throws IllegalArgumentException {
+    super(armThickness, sRow, sCol);
+  }
+
+  /**
+   * Returns the first valid column of a row using the same span as
+   * an {@link EnglishSolitaireModel}.
+   *
+   * @param row the row of the board
+   * @return the first valid column of the row
+   */
+  @Override
+  protected int rowStart(int row) {
+    return EnglishSolitaireModel.englishRowStart(this.armThickness, row);
+  }
+
+  /**
+   * Returns the column just past the last valid column of a row using the same span as
+   * an {@link EnglishSolitaireModel}.
+   *
+   * @param row the row of the board
+   * @return one more than the last valid column of the row
+   */
+  @Override
+  protected int rowEnd(int row) {
+    return EnglishSolitaireModel.englishRowEnd(this.armThickness, row);
+  }
+}
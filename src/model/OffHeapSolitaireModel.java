@@ -0,0 +1,184 @@
+package model;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+
+/**
+ * An abstract class for a marble solitaire model which keeps its board outside of the Java heap,
+ * for boards that are too big to comfortably store as an array. Every slot takes 2 bits of
+ * direct memory holding the ordinal of its SlotState, so a board of billions of slots takes a
+ * quarter of a byte per slot and is never scanned or moved by the garbage collector.
+ *
+ * <p>
+ *   The direct memory of a board is released as soon as {@link #close} is called rather than
+ *   whenever the garbage collector gets to it, and the model cannot be used after it is closed.
+ * </p>
+ */
+public abstract class OffHeapSolitaireModel extends AbstractLargeSolitaireModel
+        implements AutoCloseable {
+
+  // the board is split into buffers of 2^30 bytes (2^32 slots) each, since a single buffer can
+  // hold at most 2^31 - 1 bytes
+  private static final int CHUNK_SHIFT = 30;
+  private static final long CHUNK_MASK = (1L << CHUNK_SHIFT) - 1;
+
+  private ByteBuffer[] chunks;
+
+  /**
+   * Constructor for creating a model with a specified arm thickness and the empty spot at the
+   * specified row and column, allocating the direct memory of the board.
+   *
+   * @param armThickness the number of marbles in the top row
+   * @param sRow         the row of the empty spot
+   * @param sCol         the column of the empty spot
+   * @throws IllegalArgumentException if the armThickness is an invalid length (depends on the
+   *                                  type of board) or if the specified empty space is an invalid
+   *                                  space on the board or is not on the board completely
+   */
+  protected OffHeapSolitaireModel(int armThickness, int sRow, int sCol)
+          throws IllegalArgumentException {
+    super(armThickness, sRow, sCol);
+  }
+
+  /**
+   * Returns the number of slots stored for the board. The default for square boards is every
+   * slot of the square, including the invalid ones.
+   *
+   * @return the number of slots in the direct memory of the board
+   */
+  protected long slotCount() {
+    return (long) this.boardSize * this.boardSize;
+  }
+
+  /**
+   * Returns the number of slots stored for the specified row, which are stored one after
+   * another starting from the first column. The default for square boards is the whole row.
+   *
+   * @param row the row of the board
+   * @return the number of slots stored for this row
+   */
+  protected int storedRowLength(int row) {
+    return this.boardSize;
+  }
+
+  /**
+   * Determines the position of the slot specified by the row and column in the direct memory of
+   * the board, counted in slots. The default for square boards stores every row one after
+   * another.
+   *
+   * @param row the row of the slot
+   * @param col the column of the slot
+   * @return the index of the slot in the direct memory of the board
+   */
+  protected long index(int row, int col) {
+    return (long) row * this.boardSize + col;
+  }
+
+  /**
+   * Allocates the direct memory of the board and fills in the starting board four slots at a
+   * time, using the span of every row to tell its valid slots apart from its invalid ones.
+   *
+   * @param sRow the row of the empty slot
+   * @param sCol the column of the empty slot
+   * @return the number of marbles on the starting board
+   */
+  @Override
+  protected long generateNewBoard(int sRow, int sCol) {
+    long bytes = (this.slotCount() + 3) / 4;
+    int chunkCount = (int) ((bytes + CHUNK_MASK) >>> CHUNK_SHIFT);
+    this.chunks = new ByteBuffer[chunkCount];
+    for (int c = 0; c < chunkCount; c++) {
+      this.chunks[c] = ByteBuffer.allocateDirect(
+              (int) Math.min(1L << CHUNK_SHIFT, bytes - ((long) c << CHUNK_SHIFT)));
+    }
+
+    long marbles = 0;
+    long slot = 0;
+    int packed = 0;
+    for (int i = 0; i < this.boardSize; i++) {
+      int rowLength = this.storedRowLength(i);
+      int start = this.rowStart(i);
+      int end = this.rowEnd(i);
+      marbles += end - start;
+      for (int j = 0; j < rowLength; j++) {
+        int state = j >= start && j < end ? MARBLE : INVALID;
+        packed |= state << (2 * (slot & 3));
+        slot += 1;
+        // writing the byte once its four slots are filled in
+        if ((slot & 3) == 0) {
+          this.chunks[(int) ((slot - 1) >>> (CHUNK_SHIFT + 2))]
+                  .put((int) (((slot - 1) >>> 2) & CHUNK_MASK), (byte) packed);
+          packed = 0;
+        }
+      }
+    }
+    if ((slot & 3) != 0) {
+      this.chunks[(int) (slot >>> (CHUNK_SHIFT + 2))]
+              .put((int) ((slot >>> 2) & CHUNK_MASK), (byte) packed);
+    }
+    // taking the marble out of the specified empty slot
+    this.writeSlot(sRow, sCol, EMPTY);
+    return marbles - 1;
+  }
+
+  @Override
+  protected int readSlot(int row, int col) {
+    long index = this.index(row, col);
+    ByteBuffer chunk = this.chunks[(int) (index >>> (CHUNK_SHIFT + 2))];
+    return (chunk.get((int) ((index >>> 2) & CHUNK_MASK)) >>> (2 * (index & 3))) & 3;
+  }
+
+  @Override
+  protected void writeSlot(int row, int col, int state) {
+    long index = this.index(row, col);
+    ByteBuffer chunk = this.chunks[(int) (index >>> (CHUNK_SHIFT + 2))];
+    int position = (int) ((index >>> 2) & CHUNK_MASK);
+    int shift = (int) (2 * (index & 3));
+    chunk.put(position, (byte) ((chunk.get(position) & ~(3 << shift)) | (state << shift)));
+  }
+
+  /**
+   * Makes sure that the direct memory of this model has not been released.
+   *
+   * @throws IllegalStateException if this model has been closed
+   */
+  @Override
+  protected void ensureOpen() throws IllegalStateException {
+    if (this.chunks == null) {
+      throw new IllegalStateException("This model has been closed!");
+    }
+  }
+
+  /**
+   * Releases the direct memory of the board right away. Closing a model more than once does
+   * nothing, and every other method of the model other than getScore and getBoardSize throws an
+   * IllegalStateException once it has been closed.
+   */
+  @Override
+  public void close() {
+    if (this.chunks != null) {
+      for (ByteBuffer chunk : this.chunks) {
+        release(chunk);
+      }
+      this.chunks = null;
+    }
+  }
+
+  /**
+   * Frees the memory of a direct buffer without waiting for the garbage collector, if the running
+   * JVM allows it. Otherwise the memory is freed once the buffer is collected.
+   *
+   * @param buffer the direct buffer whose memory is freed
+   */
+  private static void release(ByteBuffer buffer) {
+    try {
+      Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+      theUnsafe.setAccessible(true);
+      unsafeClass.getMethod("invokeCleaner", ByteBuffer.class)
+              .invoke(theUnsafe.get(null), buffer);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      // the buffer is no longer referenced by this model, so the garbage collector frees it
+    }
+  }
+}
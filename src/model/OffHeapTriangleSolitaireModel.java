@@ -0,0 +1,129 @@
+package model;
+
+/**
+ * This class represents a model of the triangle variant of Marble Solitaire which keeps its board
+ * in direct memory outside of the Java heap. It plays exactly like a
+ * {@link TriangleSolitaireModel}, and only stores the slots of the triangle itself, row after
+ * row, so row i takes i + 1 slots.
+ */
+public class OffHeapTriangleSolitaireModel extends OffHeapSolitaireModel {
+
+  /**
+   * A constructor for creating an OffHeapTriangleSolitaireModel with the specified board size and
+   * the empty slot at the top.
+   *
+   * @param dimensions the dimensions of the board
+   * @throws IllegalArgumentException if the dimensions are not a positive integer
+   */
+  public OffHeapTriangleSolitaireModel(int dimensions) throws IllegalArgumentException {
+    super(dimensions, 0, 0);
+  }
+
+  /**
+   * A constructor for creating an OffHeapTriangleSolitaireModel with the specified board size and
+   * the empty slot at the specified slot.
+   *
+   * @param dimensions   the dimensions of the board
+   * @param sRow         the row of the empty slot
+   * @param sCol         the column of the empty slot
+   * @throws IllegalArgumentException if the dimensions are not a positive integer or if the
+   *                                  empty slot is not a part of the triangle
+   */
+  public OffHeapTriangleSolitaireModel(int dimensions, int sRow, int sCol)
+          throws IllegalArgumentException {
+    super(dimensions, sRow, sCol);
+  }
+
+  /**
+   * Checking to ensure that the dimensions of a triangle board are a positive integer.
+   *
+   * @param armThickness the desired number of marbles in the last row of the triangle
+   * @throws IllegalArgumentException if the armThickness is not a positive integer
+   */
+  @Override
+  protected void checkArmThickness(int armThickness) throws IllegalArgumentException {
+    if (armThickness <= 0) {
+      throw new IllegalArgumentException("Arm thickness of a triangle solitaire model must be "
+              + "greater than 0!");
+    }
+  }
+
+  /**
+   * Returns the first valid column of a row using the same span as
+   * a {@link TriangleSolitaireModel}.
+   *
+   * @param row the row of the board
+   * @return the first valid column of the row
+   */
+  @Override
+  protected int rowStart(int row) {
+    return 0;
+  }
+
+  /**
+   * Returns the column just past the last valid column of a row using the same span as
+   * a {@link TriangleSolitaireModel}.
+   *
+   * @param row the row of the board
+   * @return one more than the last valid column of the row
+   */
+  @Override
+  protected int rowEnd(int row) {
+    return TriangleSolitaireModel.triangleRowEnd(row);
+  }
+
+  /**
+   * Returns the directions that a marble can jump in on a triangle board, which include the two
+   * diagonal directions.
+   *
+   * @return the left, right, up, and down directions and the two diagonal directions
+   */
+  @Override
+  protected int[][] jumpDirections() {
+    return new int[][] {{0, -1}, {0, 1}, {-1, 0}, {1, 0}, {-1, -1}, {1, 1}};
+  }
+
+  /**
+   * Returns the number of slots in the triangle, which are the only slots stored.
+   *
+   * @return the number of slots in the triangle
+   */
+  @Override
+  protected long slotCount() {
+    return (long) this.boardSize * (this.boardSize + 1) / 2;
+  }
+
+  /**
+   * Returns the number of slots of the triangle in the specified row.
+   *
+   * @param row the row of the board
+   * @return the number of slots of the triangle in this row
+   */
+  @Override
+  protected int storedRowLength(int row) {
+    return row + 1;
+  }
+
+  /**
+   * Determines the position of the slot in the triangle, where every row before it takes one
+   * more slot than the row above it.
+   *
+   * @param row the row of the slot
+   * @param col the column of the slot
+   * @return the index of the slot in the direct memory of the board
+   */
+  @Override
+  protected long index(int row, int col) {
+    return (long) row * (row + 1) / 2 + col;
+  }
+
+  /**
+   * Determines the boardSize of the triangle board, which is just the armThickness.
+   *
+   * @return the armThickness, which represents the boardSize
+   */
+  @Override
+  public int getBoardSize() {
+    return this.armThickness;
+  }
+}
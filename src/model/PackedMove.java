@@ -0,0 +1,220 @@
+package model;
+
+/**
+ * The encoding of a move as a single int, used by the models to hand out moves without creating
+ * an object for every one of them. A packed move holds the cell of the from slot, which is
+ * row * boardSize + col, and the direction that the marble jumps in, so the slot in between and
+ * the to slot are one and two steps away from the from slot in that direction.
+ *
+ * <p>
+ *   The directions are numbered the same way on every board, with the square boards only using
+ *   the first four of them and the triangle board also using the two diagonal ones. A packed
+ *   move only makes sense together with the size of the board that it was made on.
+ * </p>
+ */
+public final class PackedMove {
+
+  /**
+   * The direction of a jump to the left, towards lower columns.
+   */
+  public static final int LEFT = 0;
+
+  /**
+   * The direction of a jump to the right, towards higher columns.
+   */
+  public static final int RIGHT = 1;
+
+  /**
+   * The direction of a jump up, towards lower rows.
+   */
+  public static final int UP = 2;
+
+  /**
+   * The direction of a jump down, towards higher rows.
+   */
+  public static final int DOWN = 3;
+
+  /**
+   * The direction of a diagonal jump up and to the left, which only the triangle board has.
+   */
+  public static final int UP_LEFT = 4;
+
+  /**
+   * The direction of a diagonal jump down and to the right, which only the triangle board has.
+   */
+  public static final int DOWN_RIGHT = 5;
+
+  /**
+   * The largest board size whose moves can be packed, since the cell of the from slot has to fit
+   * in the bits of an int that are not used by the direction.
+   */
+  public static final int MAX_BOARD_SIZE = 1 << 14;
+
+  private static final int DIRECTION_BITS = 3;
+  private static final int DIRECTION_MASK = (1 << DIRECTION_BITS) - 1;
+  private static final int[] ROW_STEPS = {0, 0, -1, 1, -1, 1};
+  private static final int[] COL_STEPS = {-1, 1, 0, 0, -1, 1};
+
+  /**
+   * There are no objects of this class, only its static methods.
+   */
+  private PackedMove() {
+  }
+
+  /**
+   * Packs the move from the specified cell in the specified direction into an int.
+   *
+   * @param cell      the cell of the from slot, which is row * boardSize + col
+   * @param direction the direction of the jump, which is one of the directions of this class
+   * @return the packed move
+   */
+  public static int pack(int cell, int direction) {
+    return (cell << DIRECTION_BITS) | direction;
+  }
+
+  /**
+   * Packs the move from the specified slot in the specified direction into an int.
+   *
+   * @param row       the row of the from slot
+   * @param col       the column of the from slot
+   * @param direction the direction of the jump, which is one of the directions of this class
+   * @param boardSize the size of the board that the move is made on
+   * @return the packed move
+   */
+  public static int pack(int row, int col, int direction, int boardSize) {
+    return pack(row * boardSize + col, direction);
+  }
+
+  /**
+   * Returns the cell of the from slot of the packed move.
+   *
+   * @param move the packed move
+   * @return the cell of the from slot, which is row * boardSize + col
+   */
+  public static int cell(int move) {
+    return move >>> DIRECTION_BITS;
+  }
+
+  /**
+   * Returns the direction of the jump of the packed move.
+   *
+   * @param move the packed move
+   * @return the direction of the jump, which is one of the directions of this class
+   */
+  public static int direction(int move) {
+    return move & DIRECTION_MASK;
+  }
+
+  /**
+   * Returns the change in row of a single step in the specified direction.
+   *
+   * @param direction one of the directions of this class
+   * @return -1, 0, or 1
+   */
+  public static int rowStep(int direction) {
+    return ROW_STEPS[direction];
+  }
+
+  /**
+   * Returns the change in column of a single step in the specified direction.
+   *
+   * @param direction one of the directions of this class
+   * @return -1, 0, or 1
+   */
+  public static int colStep(int direction) {
+    return COL_STEPS[direction];
+  }
+
+  /**
+   * Returns the row of the from slot of the packed move.
+   *
+   * @param move      the packed move
+   * @param boardSize the size of the board that the move is made on
+   * @return the row of the from slot
+   */
+  public static int fromRow(int move, int boardSize) {
+    return cell(move) / boardSize;
+  }
+
+  /**
+   * Returns the column of the from slot of the packed move.
+   *
+   * @param move      the packed move
+   * @param boardSize the size of the board that the move is made on
+   * @return the column of the from slot
+   */
+  public static int fromCol(int move, int boardSize) {
+    return cell(move) % boardSize;
+  }
+
+  /**
+   * Returns the row of the to slot of the packed move.
+   *
+   * @param move      the packed move
+   * @param boardSize the size of the board that the move is made on
+   * @return the row of the to slot
+   */
+  public static int toRow(int move, int boardSize) {
+    return fromRow(move, boardSize) + 2 * ROW_STEPS[direction(move)];
+  }
+
+  /**
+   * Returns the column of the to slot of the packed move.
+   *
+   * @param move      the packed move
+   * @param boardSize the size of the board that the move is made on
+   * @return the column of the to slot
+   */
+  public static int toCol(int move, int boardSize) {
+    return fromCol(move, boardSize) + 2 * COL_STEPS[direction(move)];
+  }
+
+  /**
+   * Determines whether the marble in the specified slot can jump in the specified direction,
+   * looking only at the slots of the board that the jump goes through.
+   *
+   * @param state     the board that the jump is made on
+   * @param row       the row of the from slot
+   * @param col       the column of the from slot
+   * @param direction the direction of the jump, which is one of the directions of this class
+   * @return true if the from and over slots have a marble and the to slot is empty
+   */
+  static boolean isLegalJump(MarbleSolitaireModelState state, int row, int col, int direction) {
+    int boardSize = state.getBoardSize();
+    int toRow = row + 2 * ROW_STEPS[direction];
+    int toCol = col + 2 * COL_STEPS[direction];
+    return toRow >= 0 && toRow < boardSize && toCol >= 0 && toCol < boardSize
+            && state.getSlotAt(row, col) == MarbleSolitaireModelState.SlotState.Marble
+            && state.getSlotAt(row + ROW_STEPS[direction], col + COL_STEPS[direction])
+            == MarbleSolitaireModelState.SlotState.Marble
+            && state.getSlotAt(toRow, toCol) == MarbleSolitaireModelState.SlotState.Empty;
+  }
+
+  /**
+   * Makes sure that the moves of a board of the specified size can be packed.
+   *
+   * @param boardSize the size of the board
+   * @throws IllegalStateException if the board is larger than {@link #MAX_BOARD_SIZE}
+   */
+  static void checkBoardSize(int boardSize) throws IllegalStateException {
+    if (boardSize > MAX_BOARD_SIZE) {
+      throw new IllegalStateException("The moves of this board are too large to pack!");
+    }
+  }
+
+  /**
+   * Makes sure that the specified part of an array of packed moves is inside the array.
+   *
+   * @param moves  the array of packed moves
+   * @param offset the index of the first move of the part
+   * @param count  the number of moves in the part
+   * @throws IllegalArgumentException if the array is null or the part is not inside the array
+   */
+  static void checkRange(int[] moves, int offset, int count) throws IllegalArgumentException {
+    if (moves == null) {
+      throw new IllegalArgumentException("Moves cannot be null!");
+    } else if (offset < 0 || count < 0 || offset > moves.length - count) {
+      throw new IllegalArgumentException("The moves are not inside the array!");
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package model;
+
+/**
+ * The pagoda functions of the board of a variant of Marble Solitaire with a specific arm
+ * thickness. A pagoda function gives every slot a weight such that the from slot and the slot in
+ * between of every jump weigh at least as much together as the to slot, so the total weight of
+ * the marbles on the board can never go up, whatever moves are made. A board whose marbles weigh
+ * less than the marbles of a target position can therefore never reach that position.
+ *
+ * <p>
+ *   Two kinds of pagoda functions are used, both of which hold for every jump of the grid and so
+ *   for every board shape:
+ * </p>
+ * <ul>
+ *   <li> For each of the lines of slots with the same row, the same column, or the same row minus
+ *   column, a weight of 1 on two out of every three lines and 0 on the third, in each of the
+ *   three ways of choosing the third line. Any two neighbouring lines of a jump have a weight of
+ *   1 between them, so these hold on boards of any size. </li>
+ *   <li> For each of the anchor slots of the board, the Fibonacci number F(k - d) at a distance d
+ *   from the anchor, where k is one more than the distance of the farthest slot. Since
+ *   F(n) + F(n + 1) = F(n + 2), a jump towards the anchor never adds weight. These are only used
+ *   when the weight of a whole board fits in a long. </li>
+ * </ul>
+ *
+ * <p>
+ *   The weights are worked out from the row and column of a slot rather than stored for every
+ *   slot, so the table is tiny no matter how large the board is. Like the {@link JumpTable}, it
+ *   is shared by every model of the same variant and arm thickness.
+ * </p>
+ */
+final class PagodaTable {
+
+  private static final ShapeCache<PagodaTable> CACHE = new ShapeCache<>();
+  // the lines are the slots with the same row, the same column, and the same row minus column
+  private static final int[][] LINES = {{1, 0}, {0, 1}, {1, -1}};
+  private static final long[] FIBONACCI = fibonacci();
+
+  // whether the board has the diagonal jumps of the triangle board, which changes how far apart
+  // two slots are
+  private final boolean diagonal;
+  // the anchor slot and the value of k of every Fibonacci pagoda function
+  private final int[][] anchors;
+  private final int[] peaks;
+
+  /**
+   * Builds the pagoda functions for the board of the specified model, keeping the Fibonacci
+   * ones whose weights are small enough to be added up over the whole board.
+   *
+   * @param model the model whose board shape this table describes
+   */
+  private PagodaTable(AbstractSolitaireModel model) {
+    this.diagonal = model.jumpDirections().length > 4;
+    int[][] candidates = model.pagodaAnchors();
+    long validSlots = 0;
+    for (int i = 0; i < model.boardSize; i++) {
+      validSlots += model.rowEnd(i) - model.rowStart(i);
+    }
+    int kept = 0;
+    int[] peaks = new int[candidates.length];
+    for (int a = 0; a < candidates.length; a++) {
+      int farthest = 0;
+      for (int i = 0; i < model.boardSize; i++) {
+        // the farthest slot of a row is always at one of the ends of its span
+        farthest = Math.max(farthest, this.distance(i, model.rowStart(i), candidates[a]));
+        farthest = Math.max(farthest, this.distance(i, model.rowEnd(i) - 1, candidates[a]));
+      }
+      int peak = farthest + 1;
+      if (peak < FIBONACCI.length && FIBONACCI[peak] <= Long.MAX_VALUE / validSlots) {
+        candidates[kept] = candidates[a];
+        peaks[kept] = peak;
+        kept += 1;
+      }
+    }
+    this.anchors = new int[kept][];
+    this.peaks = new int[kept];
+    System.arraycopy(candidates, 0, this.anchors, 0, kept);
+    System.arraycopy(peaks, 0, this.peaks, 0, kept);
+  }
+
+  /**
+   * Builds the Fibonacci numbers that fit in a long, starting with F(0) = 0 and F(1) = 1.
+   *
+   * @return the Fibonacci numbers in order
+   */
+  private static long[] fibonacci() {
+    long[] numbers = new long[93];
+    numbers[1] = 1;
+    for (int n = 2; n < numbers.length; n++) {
+      numbers[n] = numbers[n - 1] + numbers[n - 2];
+    }
+    return numbers;
+  }
+
+  /**
+   * Returns the pagoda table for the variant and arm thickness of the specified model, building
+   * it only if it is not cached for a model of the same variant and arm thickness, as described
+   * by {@link ShapeCache}.
+   *
+   * @param model the model whose board shape the table describes
+   * @return the shared pagoda table of this board shape
+   */
+  static PagodaTable of(AbstractSolitaireModel model) {
+    return CACHE.get(model, () -> new PagodaTable(model));
+  }
+
+  /**
+   * Returns the number of pagoda functions of this board.
+   *
+   * @return the number of pagoda functions
+   */
+  int count() {
+    return 3 * LINES.length + this.anchors.length;
+  }
+
+  /**
+   * Returns the weight of the specified slot in the specified pagoda function.
+   *
+   * @param k   the index of the pagoda function
+   * @param row the row of the slot, which must be a valid slot
+   * @param col the column of the slot, which must be a valid slot
+   * @return the weight of the slot
+   */
+  long weight(int k, int row, int col) {
+    if (k < 3 * LINES.length) {
+      int[] line = LINES[k / 3];
+      // shifting the lines so that the lines of weight 0 are the ones at k % 3 modulo 3
+      int position = Math.floorMod(line[0] * row + line[1] * col - k % 3, 3);
+      return position == 0 ? 0 : 1;
+    }
+    int a = k - 3 * LINES.length;
+    return FIBONACCI[this.peaks[a] - this.distance(row, col, this.anchors[a])];
+  }
+
+  /**
+   * Returns the smallest number of single steps in the directions of the board that it takes to
+   * get from a slot to the anchor, ignoring the shape of the board. Without diagonal steps this
+   * is the difference in rows plus the difference in columns, and with the diagonal steps of the
+   * triangle board a step down and right counts as one step.
+   *
+   * @param row    the row of the slot
+   * @param col    the column of the slot
+   * @param anchor the row and column of the anchor
+   * @return the number of steps between the slot and the anchor
+   */
+  private int distance(int row, int col, int[] anchor) {
+    int rows = row - anchor[0];
+    int cols = col - anchor[1];
+    if (this.diagonal && (rows > 0) == (cols > 0)) {
+      return Math.max(Math.abs(rows), Math.abs(cols));
+    }
+    return Math.abs(rows) + Math.abs(cols);
+  }
+}
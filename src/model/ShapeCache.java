@@ -0,0 +1,51 @@
+package model;
+
+import java.lang.ref.SoftReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A cache of something built from the shape of a board, such as its jump table, that is shared
+ * by every model of the same variant and arm thickness. Only the shapes of boards small enough
+ * to be played many times over are cached, since a giant board is rarely made twice and its
+ * tables would otherwise stay in memory forever.
+ *
+ * <p>
+ *   The cached values are only softly held, so the virtual machine can still take them back when
+ *   it runs low on memory once no model of their shape is left. A value that was taken back is
+ *   simply built again the next time a model of its shape asks for it.
+ * </p>
+ *
+ * @param <T> the type of the values built from the shape of a board
+ */
+final class ShapeCache<T> {
+
+  // the most slots a board can store for its shape to be cached
+  static final int MAX_CACHED_SLOTS = 1 << 16;
+
+  private final Map<String, SoftReference<T>> values = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the value for the shape of the specified model, building it with the specified
+   * supplier if the shape is too large to be cached or no value of that shape is cached anymore.
+   *
+   * @param model   the model whose board shape the value is built from
+   * @param builder builds the value of the shape of the model
+   * @return the value of the shape of the model
+   */
+  T get(AbstractSolitaireModel model, Supplier<T> builder) {
+    if (model.slotCount() > MAX_CACHED_SLOTS) {
+      return builder.get();
+    }
+    String key = model.shapeKey();
+    SoftReference<T> cached = this.values.get(key);
+    T value = cached == null ? null : cached.get();
+    if (value == null) {
+      // two models of the same shape may both build the value, but only one of them is kept
+      value = builder.get();
+      this.values.put(key, new SoftReference<>(value));
+    }
+    return value;
+  }
+}
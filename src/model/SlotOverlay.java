@@ -0,0 +1,111 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * A hash map from the index of a slot to the ordinal of its SlotState, for models that only store
+ * the slots that have changed since the start of the game. The keys and values are kept in
+ * parallel primitive arrays using open addressing, so that an entry takes 9 bytes rather than a
+ * boxed key, a boxed value, and a map entry.
+ */
+final class SlotOverlay {
+
+  private static final long NO_KEY = -1L;
+
+  private long[] keys;
+  private byte[] values;
+  private int size;
+
+  /**
+   * Creates an overlay with no changed slots.
+   */
+  SlotOverlay() {
+    this.keys = new long[16];
+    this.values = new byte[16];
+    Arrays.fill(this.keys, NO_KEY);
+  }
+
+  /**
+   * Returns the stored state of the slot at the specified index, or the specified starting state
+   * if the slot has not changed.
+   *
+   * @param index         the index of the slot, which must not be negative
+   * @param startingState the state of the slot at the start of the game
+   * @return the current state of the slot
+   */
+  int get(long index, int startingState) {
+    int mask = this.keys.length - 1;
+    for (int i = hash(index) & mask; ; i = (i + 1) & mask) {
+      if (this.keys[i] == index) {
+        return this.values[i];
+      } else if (this.keys[i] == NO_KEY) {
+        return startingState;
+      }
+    }
+  }
+
+  /**
+   * Stores the state of the slot at the specified index.
+   *
+   * @param index the index of the slot, which must not be negative
+   * @param state the new state of the slot
+   */
+  void put(long index, int state) {
+    int mask = this.keys.length - 1;
+    int i = hash(index) & mask;
+    while (this.keys[i] != NO_KEY && this.keys[i] != index) {
+      i = (i + 1) & mask;
+    }
+    if (this.keys[i] == NO_KEY) {
+      this.keys[i] = index;
+      this.size += 1;
+    }
+    this.values[i] = (byte) state;
+    // keeping at least half of the table free so that lookups stay short
+    if (this.size * 2 > this.keys.length) {
+      this.grow();
+    }
+  }
+
+  /**
+   * Returns the number of slots stored in this overlay.
+   *
+   * @return the number of slots that have changed at least once
+   */
+  int size() {
+    return this.size;
+  }
+
+  /**
+   * Doubles the capacity of the table and puts every stored slot back into it.
+   */
+  private void grow() {
+    long[] oldKeys = this.keys;
+    byte[] oldValues = this.values;
+    this.keys = new long[oldKeys.length * 2];
+    this.values = new byte[oldValues.length * 2];
+    Arrays.fill(this.keys, NO_KEY);
+    int mask = this.keys.length - 1;
+    for (int j = 0; j < oldKeys.length; j++) {
+      if (oldKeys[j] != NO_KEY) {
+        int i = hash(oldKeys[j]) & mask;
+        while (this.keys[i] != NO_KEY) {
+          i = (i + 1) & mask;
+        }
+        this.keys[i] = oldKeys[j];
+        this.values[i] = oldValues[j];
+      }
+    }
+  }
+
+  /**
+   * Spreads the bits of an index so that neighbouring slots land far apart in the table.
+   *
+   * @param index the index of the slot
+   * @return the hash of the index
+   */
+  private static int hash(long index) {
+    long h = index * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+}
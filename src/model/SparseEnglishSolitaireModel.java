@@ -0,0 +1,48 @@
+package model;
+
+/**
+ * This class represents a model of the English variant of Marble Solitaire, with the '+' shaped
+ * board, which only stores the slots that have changed since the start of the game. It plays
+ * exactly like an {@link EnglishSolitaireModel} but is created in constant time for any arm
+ * thickness.
+ */
+public class SparseEnglishSolitaireModel extends SparseSolitaireModel {
+
+  /**
+   * A constructor for creating a SparseEnglishSolitaireModel with the specified board size and
+   * the empty slot at the middle.
+   *
+   * @param armThickness the armThickness of the board
+   * @throws IllegalArgumentException if the armThickness is not a positive odd integer greater
+   *                                  than 3
+   */
+  public SparseEnglishSolitaireModel(int armThickness) throws IllegalArgumentException {
+    super(armThickness, (armThickness - 1) / 2 * 3, (armThickness - 1) / 2 * 3);
+  }
+
+  /**
+   * A constructor for creating a SparseEnglishSolitaireModel with the specified board size and
+   * the empty slot at the specified slot.
+   *
+   * @param armThickness the armThickness of the board
+   * @param sRow         the row of the empty slot
+   * @param sCol         the column of the empty slot
+   * @throws IllegalArgumentException if the armThickness is not a positive odd integer greater
+   *                                  than 3 or if the specified invalid slot is not a part of the
+   *                                  plus
+   */
+  public SparseEnglishSolitaireModel(int armThickness, int sRow, int sCol)
+          throws IllegalArgumentException {
+    super(armThickness, sRow, sCol);
+  }
+
+  /**
+   * Returns the shape of an {@link EnglishSolitaireModel}, which this model plays on.
+   *
+   * @return the English shape
+   */
+  @Override
+  BoardShape shape() {
+    return BoardShape.ENGLISH;
+  }
+}
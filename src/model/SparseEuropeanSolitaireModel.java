@@ -0,0 +1,48 @@
+package model;
+
+/**
+ * This class represents a model of the European variant of Marble Solitaire, with the octagon
+ * shaped board, which only stores the slots that have changed since the start of the game. It
+ * plays exactly like a {@link EuropeanSolitaireModel} but is created in constant time for any
+ * arm thickness.
+ */
+public class SparseEuropeanSolitaireModel extends SparseSolitaireModel {
+
+  /**
+   * A constructor for creating a SparseEuropeanSolitaireModel with the specified board size and
+   * the empty slot at the middle.
+   *
+   * @param armThickness the armThickness of the board
+   * @throws IllegalArgumentException if the armThickness is not a positive odd integer greater
+   *                                  than 3
+   */
+  public SparseEuropeanSolitaireModel(int armThickness) throws IllegalArgumentException {
+    super(armThickness, (armThickness - 1) / 2 * 3, (armThickness - 1) / 2 * 3);
+  }
+
+  /**
+   * A constructor for creating a SparseEuropeanSolitaireModel with the specified board size and
+   * the empty slot at the specified slot.
+   *
+   * @param armThickness the armThickness of the board
+   * @param sRow         the row of the empty slot
+   * @param sCol         the column of the empty slot
+   * @throws IllegalArgumentException if the armThickness is not a positive odd integer greater
+   *                                  than 3 or if the specified invalid slot is not a part of the
+   *                                  octagon
+   */
+  public SparseEuropeanSolitaireModel(int armThickness, int sRow, int sCol)
+          throws IllegalArgumentException {
+    super(armThickness, sRow, sCol);
+  }
+
+  /**
+   * Returns the shape of a {@link EuropeanSolitaireModel}, which this model plays on.
+   *
+   * @return the European shape
+   */
+  @Override
+  BoardShape shape() {
+    return BoardShape.EUROPEAN;
+  }
+}
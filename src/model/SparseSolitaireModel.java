@@ -0,0 +1,101 @@
+package model;
+
+/**
+ * An abstract class for a marble solitaire model which never builds its board. The state of a
+ * slot at the start of a game follows from the shape of the board and the empty slot alone, so
+ * only the slots that have changed since then are stored, in a compact hash map of primitives.
+ *
+ * <p>
+ *   Creating a model takes constant time and memory no matter how large the arm thickness is,
+ *   and the memory it uses afterwards grows with the number of moves played, since every move
+ *   changes exactly three slots.
+ * </p>
+ */
+public abstract class SparseSolitaireModel extends AbstractLargeSolitaireModel {
+
+  private int emptyRow;
+  private int emptyCol;
+  private SlotOverlay changedSlots;
+
+  /**
+   * Constructor for creating a model with a specified arm thickness and the empty spot at the
+   * specified row and column.
+   *
+   * @param armThickness the number of marbles in the top row
+   * @param sRow         the row of the empty spot
+   * @param sCol         the column of the empty spot
+   * @throws IllegalArgumentException if the armThickness is an invalid length (depends on the
+   *                                  type of board) or if the specified empty space is an invalid
+   *                                  space on the board or is not on the board completely
+   */
+  protected SparseSolitaireModel(int armThickness, int sRow, int sCol)
+          throws IllegalArgumentException {
+    super(armThickness, sRow, sCol);
+  }
+
+  /**
+   * Returns the shape of the board, which is all that a sparse model of a variant supplies.
+   *
+   * @return the shape of the board
+   */
+  abstract BoardShape shape();
+
+  /**
+   * Returns the first valid column of a row from the shape of the board.
+   *
+   * @param row the row of the board
+   * @return the first valid column of the row
+   */
+  @Override
+  protected int rowStart(int row) {
+    return this.shape().rowStart(this.armThickness, row);
+  }
+
+  /**
+   * Returns the column just past the last valid column of a row from the shape of the board.
+   *
+   * @param row the row of the board
+   * @return one more than the last valid column of the row
+   */
+  @Override
+  protected int rowEnd(int row) {
+    return this.shape().rowEnd(this.armThickness, row);
+  }
+
+  /**
+   * Remembers the empty slot of the starting board without storing any slots.
+   *
+   * @param sRow the row of the empty slot
+   * @param sCol the column of the empty slot
+   * @return the number of marbles on the starting board, which is every valid slot but one
+   */
+  @Override
+  protected long generateNewBoard(int sRow, int sCol) {
+    this.emptyRow = sRow;
+    this.emptyCol = sCol;
+    this.changedSlots = new SlotOverlay();
+    // the number of valid slots is worked out from the shape of the board rather than counted
+    return this.shape().slotCount(this.armThickness) - 1;
+  }
+
+  @Override
+  protected int readSlot(int row, int col) {
+    int startingState = row == this.emptyRow && col == this.emptyCol ? EMPTY : MARBLE;
+    return this.changedSlots.get((long) row * this.boardSize + col, startingState);
+  }
+
+  @Override
+  protected void writeSlot(int row, int col, int state) {
+    this.changedSlots.put((long) row * this.boardSize + col, state);
+  }
+
+  /**
+   * Returns the number of slots that are stored because they have changed since the start of
+   * the game, which is at most three for every move played.
+   *
+   * @return the number of stored slots
+   */
+  public int getChangedSlotCount() {
+    return this.changedSlots.size();
+  }
+}
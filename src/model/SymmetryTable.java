@@ -0,0 +1,114 @@
+package model;
+
+/**
+ * A precomputed table of where every slot of a board goes under each of the symmetries of its
+ * shape, which are the rotations and reflections that map the valid board onto itself. The
+ * square boards have eight of them and the triangle board has six.
+ *
+ * <p>
+ *   For every symmetry the table stores which slot lands on each slot of the board, so that the
+ *   image of a board under that symmetry can be read one slot at a time without building it. Like
+ *   the {@link JumpTable}, it only depends on the variant and arm thickness of a board and is
+ *   shared by every model of the same shape, but it is only built once a model of that shape
+ *   first asks about its symmetries.
+ * </p>
+ */
+final class SymmetryTable {
+
+  private static final ShapeCache<SymmetryTable> CACHE = new ShapeCache<>();
+
+  private final int[][] sources;
+  private final int[] inverses;
+
+  /**
+   * Builds the symmetry table for the board of the specified model by moving every valid slot
+   * with each of the symmetries of the model.
+   *
+   * @param model the model whose board shape this table describes
+   */
+  private SymmetryTable(AbstractSolitaireModel model) {
+    int count = model.symmetryCount();
+    int boardSize = model.getBoardSize();
+    this.sources = new int[count][model.slotCount()];
+    this.inverses = new int[count];
+    for (int t = 0; t < count; t++) {
+      // the invalid slots of a square board are mapped onto invalid slots, so they can be left
+      // where they are
+      for (int i = 0; i < this.sources[t].length; i++) {
+        this.sources[t][i] = i;
+      }
+      for (int i = 0; i < boardSize; i++) {
+        for (int j = model.rowStart(i); j < model.rowEnd(i); j++) {
+          int image = model.index(model.transformRow(t, i, j), model.transformCol(t, i, j));
+          this.sources[t][image] = model.index(i, j);
+        }
+      }
+    }
+
+    // the inverse of a symmetry is the one that puts every slot back where it came from
+    for (int t = 0; t < count; t++) {
+      for (int u = 0; u < count; u++) {
+        if (this.undoes(model, t, u)) {
+          this.inverses[t] = u;
+          break;
+        }
+      }
+    }
+  }
+
+  /**
+   * Determines whether moving every valid slot with one symmetry and then another puts every
+   * slot back where it started.
+   *
+   * @param model  the model whose board shape this table describes
+   * @param first  the symmetry applied first
+   * @param second the symmetry applied second
+   * @return true if the second symmetry is the inverse of the first one
+   */
+  private boolean undoes(AbstractSolitaireModel model, int first, int second) {
+    for (int i = 0; i < model.getBoardSize(); i++) {
+      for (int j = model.rowStart(i); j < model.rowEnd(i); j++) {
+        int row = model.transformRow(first, i, j);
+        int col = model.transformCol(first, i, j);
+        if (model.transformRow(second, row, col) != i
+                || model.transformCol(second, row, col) != j) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the symmetry table for the variant and arm thickness of the specified model, building
+   * it only if it is not cached for a model of the same variant and arm thickness, as described
+   * by {@link ShapeCache}.
+   *
+   * @param model the model whose board shape the table describes
+   * @return the shared symmetry table of this board shape
+   */
+  static SymmetryTable of(AbstractSolitaireModel model) {
+    return CACHE.get(model, () -> new SymmetryTable(model));
+  }
+
+  /**
+   * Returns the slot which the specified symmetry moves onto the specified slot.
+   *
+   * @param transform the index of the symmetry
+   * @param index     the index of a slot in the board array
+   * @return the index of the slot that lands on it
+   */
+  int sourceOf(int transform, int index) {
+    return this.sources[transform][index];
+  }
+
+  /**
+   * Returns the symmetry that undoes the specified one.
+   *
+   * @param transform the index of the symmetry
+   * @return the index of its inverse
+   */
+  int inverseOf(int transform) {
+    return this.inverses[transform];
+  }
+}
@@ -6,6 +6,15 @@ package model;
  */
 public class TriangleSolitaireModel extends AbstractSolitaireModel {
 
+  // the most slots that the board array of a triangle can hold, which is the largest array that
+  // every virtual machine can make
+  private static final int MAX_SLOTS = Integer.MAX_VALUE - 8;
+
+  // for every symmetry, the side of the triangle whose distance becomes the distance of the moved
+  // slot from the bottom, and the one whose distance becomes its distance from the left side
+  private static final int[] ROW_SIDES = {2, 0, 1, 2, 1, 0};
+  private static final int[] COL_SIDES = {0, 1, 2, 1, 0, 2};
+
   /**
    * A constructor for creating an TriangleSolitaireModel with a board size of 5 and the empty
    * slot at the top.
@@ -53,98 +62,219 @@ public class TriangleSolitaireModel extends AbstractSolitaireModel {
   }
 
   /**
-   * Checking to ensure that the armThickness for a triangle solitaire model is a positive integer.
+   * A constructor for creating a TriangleSolitaireModel in exactly the same state as the specified
+   * one.
+   *
+   * @param other the model being copied
+   */
+  protected TriangleSolitaireModel(TriangleSolitaireModel other) {
+    super(other);
+  }
+
+  @Override
+  public TriangleSolitaireModel copy() {
+    return new TriangleSolitaireModel(this);
+  }
+
+  /**
+   * Checking to ensure that the armThickness for a triangle solitaire model is a positive integer
+   * and that the slots of the triangle fit in the board array.
    *
    * @param armThickness the desired number of marbles in the last row of the triangle model.
-   * @throws IllegalArgumentException if the armThickness is not a positive integer
+   * @throws IllegalArgumentException if the armThickness is not a positive integer or the
+   *                                  triangle has too many slots to be stored in an array
    */
   @Override
   protected void checkArmThickness(int armThickness) throws IllegalArgumentException {
     if (armThickness <= 0) {
       throw new IllegalArgumentException("Arm thickness of a triangle solitaire model must be "
               + "greater than 0!");
+    } else if (triangleSlotCount(armThickness) > MAX_SLOTS) {
+      throw new IllegalArgumentException("Arm thickness of a triangle solitaire model is too "
+              + "large to store its slots!");
     }
   }
 
   /**
-   * Determines if the spot is an invalid spot on the triangle board (not in the triangle).
+   * Returns the first valid column of a row of the triangle board, which is always the first
+   * column since the triangle is stored against the left side of the board.
    *
-   * @param row the row of the slot
-   * @param col the column of the slot
-   * @return whether the slot is not in the triangle part of the board
+   * @param row the row of the board
+   * @return 0, the first column of every row
    */
   @Override
-  protected boolean isInvalidSpot(int row, int col) {
-    return col > row;
+  protected int rowStart(int row) {
+    return 0;
   }
 
   /**
-   * Determines if this is a valid move for a triangle board. A move can now also be diagonal
-   * along the topLeft bottomRight diagonal when thinking about the 2D representation of this
-   * triangle board.
+   * Returns the column just past the last valid column of a row of the triangle board.
    *
-   * @param fromRow the row of the from slot in the move
-   * @param fromCol the column of the from slot in the move
-   * @param toRow   the row of the to slot in the move
-   * @param toCol   the column of the to slot in the move
-   * @return a boolean determining whether this move is valid for a triangle board.
+   * @param row the row of the board
+   * @return one more than the last column of the triangle in this row
    */
   @Override
-  protected boolean isValidMove(int fromRow, int fromCol, int toRow, int toCol) {
-    // checking if there is a horizontal and vertical move and then also checking if there is a
-    // diagonal move
-    return super.isValidMove(fromRow, fromCol, toRow, toCol)
-            || this.isValidDiagonalMove(fromRow, fromCol, toRow, toCol);
+  protected int rowEnd(int row) {
+    return triangleRowEnd(row);
   }
 
   /**
-   * Determines if the parameters represent a valid diagonal move for the triangle board.
+   * Returns the column just past the last column in the triangle of a row on a triangle board of
+   * any size, which is shared with the other models of a triangle board that do not extend this
+   * class. Every row of the triangle has one more slot than the row above it.
    *
-   * @param fromRow the row of the from slot in the move
-   * @param fromCol the column of the from slot in the move
-   * @param toRow   the row of the to slot in the move
-   * @param toCol   the column of the to slot in the move
-   * @return a boolean determining whether this move is a valid diagonal move for a triangle board.
+   * @param row the row of the board
+   * @return one more than the last column of the triangle in this row
    */
-  private boolean isValidDiagonalMove(int fromRow, int fromCol, int toRow, int toCol) {
-    // ensuring that the marble conditions are met for a diagonal move again
-    if (!(this.board[fromRow][fromCol] == SlotState.Marble
-            && this.board[(fromRow + toRow) / 2][(fromCol + toCol) / 2] == SlotState.Marble
-            && this.board[toRow][toCol] == SlotState.Empty)) {
-      return false;
-    }
-    else {
-      // checking for a diagonal move
-      return (fromRow + 2 == toRow && fromCol + 2 == toCol)
-              || (fromRow - 2 == toRow && fromCol - 2 == toCol);
-    }
+  static int triangleRowEnd(int row) {
+    return row + 1;
   }
 
   /**
-   * Determines if this slot has any valid move by checking if it has any valid horizontal or
-   * vertical moves in the superclass method and then checking if it has any diagonal moves here.
+   * Returns the directions that a marble can jump in on a triangle board. A move can now also be
+   * diagonal along the topLeft bottomRight diagonal when thinking about the 2D representation of
+   * this triangle board.
    *
-   * @param row the row of the specified slot whose moves we are looking at
-   * @param col the column of the specified slot whose moves we are looking at
-   * @return whether this slot has any valid moves.
+   * @return the left, right, up, and down directions and the two diagonal directions
    */
   @Override
-  protected boolean slotHasValidMoves(int row, int col) {
-    // NOW CHECKS FOR DIAGONAL MOVES AS WELL
-    boolean topLeftDiagonalMove = false;
-    boolean bottomRightDiagonalMove = false;
-
-    // if the spot to the top left diagonal is on the board, then check to see if it's valid
-    if (!this.isOutOfBounds(row - 2, col - 2)) {
-      topLeftDiagonalMove = this.isValidMove(row, col, row - 2, col - 2);
-    }
-    // if the spot to the bottom right diagonal is on the board, then check to see if it's valid
-    if (!this.isOutOfBounds(row + 2, col + 2)) {
-      bottomRightDiagonalMove = this.isValidMove(row, col, row + 2, col + 2);
+  protected int[][] jumpDirections() {
+    return new int[][] {{0, -1}, {0, 1}, {-1, 0}, {1, 0}, {-1, -1}, {1, 1}};
+  }
+
+  /**
+   * Returns the slots that the Fibonacci pagoda functions of a triangle board are centered on,
+   * which are its 3 corners and the slot closest to its middle.
+   *
+   * @return the row and column of the top, bottom left, and bottom right corners and the middle
+   */
+  @Override
+  protected int[][] pagodaAnchors() {
+    int last = this.boardSize - 1;
+    return new int[][] {{0, 0}, {last, 0}, {last, last}, {(2 * last + 1) / 3, (last + 1) / 3}};
+  }
+
+  /**
+   * Returns the forms that split the slots of a triangle board into the classes of the rule of
+   * three. Row - col stays the same along the diagonal jumps, so only row + col is left, which
+   * splits the slots into 4 position classes.
+   *
+   * @return the coefficients of the form row + col
+   */
+  @Override
+  protected int[][] classForms() {
+    return new int[][] {{1, 1}};
+  }
+
+  /**
+   * Returns the number of symmetries of a triangle board, which are the 3 rotations and the 3
+   * reflections across the lines from each corner to the middle of the opposite side.
+   *
+   * @return 6
+   */
+  @Override
+  public int symmetryCount() {
+    return 6;
+  }
+
+  /**
+   * Returns the row that the specified symmetry moves a slot to. Every slot of the triangle is
+   * a distance a = col from the left side, b = row - col from the right side, and
+   * e = boardSize - 1 - row from the bottom, which always add up to boardSize - 1, and each
+   * symmetry of the triangle just swaps these distances around. The symmetries are the identity,
+   * the two rotations, and the reflections that swap a with b, e with b, and a with e, in that
+   * order.
+   *
+   * @param transform the index of the symmetry
+   * @param row       the row of the slot
+   * @param col       the column of the slot
+   * @return the row of the slot after the symmetry
+   */
+  @Override
+  protected int transformRow(int transform, int row, int col) {
+    // the new row only depends on the new distance from the bottom
+    return this.boardSize - 1 - this.triangleDistance(ROW_SIDES[transform], row, col);
+  }
+
+  /**
+   * Returns the column that the specified symmetry moves a slot to, with the same symmetries as
+   * {@link #transformRow}.
+   *
+   * @param transform the index of the symmetry
+   * @param row       the row of the slot
+   * @param col       the column of the slot
+   * @return the column of the slot after the symmetry
+   */
+  @Override
+  protected int transformCol(int transform, int row, int col) {
+    // the new column is the new distance from the left side
+    return this.triangleDistance(COL_SIDES[transform], row, col);
+  }
+
+  /**
+   * Returns one of the three distances of a slot from the sides of the triangle.
+   *
+   * @param side 0 for the left side, 1 for the right side, and 2 for the bottom
+   * @param row  the row of the slot
+   * @param col  the column of the slot
+   * @return the distance of the slot from that side
+   */
+  private int triangleDistance(int side, int row, int col) {
+    if (side == 0) {
+      return col;
+    } else if (side == 1) {
+      return row - col;
+    } else {
+      return this.boardSize - 1 - row;
     }
+  }
 
-    return  // super checks for horizontal and vertical, and this checks for diagonal
-            super.slotHasValidMoves(row, col) || topLeftDiagonalMove || bottomRightDiagonalMove;
+  /**
+   * Returns the number of slots in the triangle, which are the only slots stored in the board
+   * array of a triangle board.
+   *
+   * @return the number of slots in the triangle
+   */
+  @Override
+  protected int slotCount() {
+    return (int) triangleSlotCount(this.boardSize);
+  }
+
+  /**
+   * Returns the number of slots in the first rows of a triangle, which is also the index of the
+   * first slot of the next row. It is worked out in a long since it only fits in an int for
+   * triangles small enough to be stored in an array.
+   *
+   * @param rows the number of rows
+   * @return the number of slots in those rows
+   */
+  private static long triangleSlotCount(int rows) {
+    return (long) rows * (rows + 1) / 2;
+  }
+
+  /**
+   * Returns the number of slots of the triangle in the specified row, since the slots to the
+   * right of the triangle are not stored.
+   *
+   * @param row the row of the board
+   * @return the number of slots of the triangle in this row
+   */
+  @Override
+  protected int storedRowLength(int row) {
+    return triangleRowEnd(row);
+  }
+
+  /**
+   * Determines the position of the slot in the packed triangle, where every row takes one more
+   * slot than the row above it.
+   *
+   * @param row the row of the slot
+   * @param col the column of the slot
+   * @return the index of the slot in the board array
+   */
+  @Override
+  protected int index(int row, int col) {
+    return (int) (triangleSlotCount(row) + col);
   }
 
   /**
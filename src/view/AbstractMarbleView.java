@@ -1,8 +1,11 @@
 package view;
 
 import java.io.IOException;
+import java.util.Arrays;
 
+import model.MarbleSolitaireModel;
 import model.MarbleSolitaireModelState;
+import model.MoveListener;
 
 /**
  * An abstract class for the view of a marble solitaire game. Contains fields and methods common
@@ -13,6 +16,16 @@ public abstract class AbstractMarbleView implements MarbleSolitaireView {
   protected final MarbleSolitaireModelState model;
   protected final Appendable out;
 
+  // the rows of the board as they were last drawn, which are only drawn again once the model
+  // says that they changed, as long as the view follows a model that tells listeners about its
+  // changes; the rows, the listener the view follows the model with, whether it is listening,
+  // and the number of changes told so far are only used while holding the lock of the rows,
+  // since the model may tell the view about a move on another thread while it is being drawn
+  private final String[] rows;
+  private MoveListener listener;
+  private boolean listening;
+  private long changes;
+
   /**
    * Constructor which takes in a model to what it takes in and initializes the destination to
    * the console's out.
@@ -26,6 +39,7 @@ public abstract class AbstractMarbleView implements MarbleSolitaireView {
     }
     this.model = model;
     this.out = System.out;
+    this.rows = new String[model.getBoardSize()];
   }
 
   /**
@@ -43,6 +57,7 @@ public abstract class AbstractMarbleView implements MarbleSolitaireView {
     }
     this.model = model;
     this.out = out;
+    this.rows = new String[model.getBoardSize()];
   }
 
   @Override
@@ -51,32 +66,151 @@ public abstract class AbstractMarbleView implements MarbleSolitaireView {
     StringBuilder output = new StringBuilder();
 
     for (int i = 0; i < boardSize; i++) {
-      String row = this.generateStartingRow(i, boardSize);
-
-      for (int j = 0; j < boardSize; j++) {
-        if (model.getSlotAt(i, j) == MarbleSolitaireModelState.SlotState.Invalid) {
-          row += "  ";
-        } else if (model.getSlotAt(i, j) == MarbleSolitaireModelState.SlotState.Empty) {
-          row += "_ ";
-        } else {
-          row += "O ";
+      String row;
+      long seen;
+      synchronized (this.rows) {
+        row = this.listening ? this.rows[i] : null;
+        seen = this.changes;
+      }
+      // a row is only drawn again if the model has said that it changed, or if the model does
+      // not say when its rows change
+      if (row == null) {
+        row = this.drawRow(i, boardSize);
+        synchronized (this.rows) {
+          // a change told while the row was being drawn may have come after some of its slots
+          // were read, so the row is only kept if there was none
+          if (this.listening && this.changes == seen) {
+            this.rows[i] = row;
+          }
         }
       }
-
-      // removing the ending spaces at the end of the row
-      row = row.stripTrailing();
+      output.append(row);
 
       // adding a newline, as long as we are not on the last row
       if (i < boardSize - 1) {
-        row += "\n";
+        output.append("\n");
       }
-
-      // appending the string for each row to the output string
-      output.append(row);
     }
     return output.toString();
   }
 
+  /**
+   * Starts following the changes of the model, if it is a model that tells listeners about its
+   * changes, by registering a listener that forgets the drawn rows that a change touches so that
+   * only those are drawn again. Until then, and after {@link #detach}, every slot of the board is
+   * read each time the view is drawn. The listener stays registered until {@link #detach} is
+   * called, so the model keeps this view alive until then.
+   *
+   * @return true if the view follows the model, false if the model does not tell listeners about
+   *         its changes
+   */
+  @Override
+  public boolean followModel() {
+    if (!(this.model instanceof MarbleSolitaireModel)) {
+      return false;
+    }
+    MoveListener listener;
+    synchronized (this.rows) {
+      if (this.listener != null) {
+        return true;
+      }
+      listener = new MoveListener() {
+        @Override
+        public void moveMade(int fromRow, int fromCol, int toRow, int toCol, boolean undone) {
+          synchronized (AbstractMarbleView.this.rows) {
+            AbstractMarbleView.this.rows[fromRow] = null;
+            AbstractMarbleView.this.rows[(fromRow + toRow) / 2] = null;
+            AbstractMarbleView.this.rows[toRow] = null;
+            AbstractMarbleView.this.changes += 1;
+          }
+        }
+
+        @Override
+        public void boardChanged() {
+          synchronized (AbstractMarbleView.this.rows) {
+            Arrays.fill(AbstractMarbleView.this.rows, null);
+            AbstractMarbleView.this.changes += 1;
+          }
+        }
+      };
+      this.listener = listener;
+    }
+    // the model is not called while holding the lock of the rows, since it may be telling this
+    // view about a move on another thread while holding a lock of its own
+    boolean added = ((MarbleSolitaireModel) this.model).addMoveListener(listener);
+    boolean detached;
+    synchronized (this.rows) {
+      detached = this.listener != listener;
+      if (!detached) {
+        this.listening = added;
+        if (!added) {
+          this.listener = null;
+        }
+      }
+    }
+    // the view was detached while the listener was being registered
+    if (added && detached) {
+      ((MarbleSolitaireModel) this.model).removeMoveListener(listener);
+      return false;
+    }
+    return added;
+  }
+
+  /**
+   * Stops listening to the changes of the model, so that the model no longer keeps this view
+   * alive or tells it about its moves. The view can still be drawn afterwards, but it then reads
+   * every slot of the board each time. Detaching a view more than once does nothing.
+   */
+  @Override
+  public void detach() {
+    MoveListener listener;
+    synchronized (this.rows) {
+      if (this.listener == null) {
+        return;
+      }
+      listener = this.listener;
+      this.listener = null;
+      this.listening = false;
+      Arrays.fill(this.rows, null);
+    }
+    ((MarbleSolitaireModel) this.model).removeMoveListener(listener);
+  }
+
+  /**
+   * Draws a single row of the board, without the spaces at the end of the row or a newline.
+   *
+   * @param i         the row being drawn
+   * @param boardSize the size of the board of the model
+   * @return the row as it is displayed
+   */
+  private String drawRow(int i, int boardSize) {
+    StringBuilder output = new StringBuilder();
+    output.append(this.generateStartingRow(i, boardSize));
+
+    // the invalid slots before the span of the row are drawn as padding all at once, and the
+    // ones after it would only be trailing spaces, so only the span itself is read
+    int start = this.model.getRowStart(i);
+    int end = this.model.getRowEnd(i);
+    output.append("  ".repeat(start));
+    for (int j = start; j < end; j++) {
+      MarbleSolitaireModelState.SlotState slot = model.getSlotAt(i, j);
+      if (slot == MarbleSolitaireModelState.SlotState.Invalid) {
+        output.append("  ");
+      } else if (slot == MarbleSolitaireModelState.SlotState.Empty) {
+        output.append("_ ");
+      } else {
+        output.append("O ");
+      }
+    }
+
+    // removing the ending spaces at the end of the row
+    int rowEnd = output.length();
+    while (rowEnd > 0 && output.charAt(rowEnd - 1) == ' ') {
+      rowEnd -= 1;
+    }
+    output.setLength(rowEnd);
+    return output.toString();
+  }
 
   /**
    * Generates a string representing the beginning of a row based on the type of implementation and
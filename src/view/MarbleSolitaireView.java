@@ -31,4 +31,23 @@ public interface MarbleSolitaireView {
    * @throws IOException if transmission of the board to the provided data destination fails
    */
   void renderMessage(String message) throws IOException;
+
+  /**
+   * Start following the changes of the model this view draws, so that only the parts of the board
+   * that changed are drawn again. The model then refers to this view until {@link #detach} is
+   * called. By default a view does not follow its model and reads the whole board every time.
+   *
+   * @return true if the view follows its model, false if it cannot
+   */
+  default boolean followModel() {
+    return false;
+  }
+
+  /**
+   * Stop following the changes of the model this view draws, so that the model no longer refers
+   * to this view. A view that does not follow its model does nothing.
+   */
+  default void detach() {
+    // a view that never followed its model has nothing to stop
+  }
 }
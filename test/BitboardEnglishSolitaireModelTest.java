@@ -0,0 +1,201 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import model.BitboardEnglishSolitaireModel;
+import model.EnglishSolitaireModel;
+import model.MarbleSolitaireModel;
+import model.MarbleSolitaireModelState;
+import view.MarbleSolitaireTextView;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A JUnit test class for {@link BitboardEnglishSolitaireModel}s.
+ */
+public class BitboardEnglishSolitaireModelTest {
+
+  private MarbleSolitaireModel defaultConstructor;
+  private MarbleSolitaireModel specifiedEmptySlot;
+
+  @Before
+  public void init() {
+    defaultConstructor = new BitboardEnglishSolitaireModel();
+    specifiedEmptySlot = new BitboardEnglishSolitaireModel(4, 2);
+  }
+
+  ///////////////////////// Tests for Constructors /////////////////////////////////
+
+  // testing the properties of a model with the default constructor
+  @Test
+  public void testValidConstructionWithDefaultConstructor() {
+    assertEquals(32, this.defaultConstructor.getScore());
+    assertEquals(7, this.defaultConstructor.getBoardSize());
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty,
+            this.defaultConstructor.getSlotAt(3, 3));
+    assertEquals(MarbleSolitaireModelState.SlotState.Marble,
+            this.defaultConstructor.getSlotAt(0, 2));
+    assertEquals(MarbleSolitaireModelState.SlotState.Invalid,
+            this.defaultConstructor.getSlotAt(1, 1));
+  }
+
+  // testing the properties of a model with the specified empty spot constructor
+  @Test
+  public void testValidConstructionWithSpecifiedEmptySlotConstructor() {
+    assertEquals(32, this.specifiedEmptySlot.getScore());
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty,
+            this.specifiedEmptySlot.getSlotAt(4, 2));
+    assertEquals(MarbleSolitaireModelState.SlotState.Marble,
+            this.specifiedEmptySlot.getSlotAt(3, 3));
+  }
+
+  // testing for an exception where the empty slot is in an invalid corner
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidConstructionWithInvalidEmptySlot() {
+    MarbleSolitaireModel model = new BitboardEnglishSolitaireModel(5, 5);
+  }
+
+  // testing for an exception where the empty slot is off the board
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidConstructionWithOutOfBoundsEmptySlot() {
+    MarbleSolitaireModel model = new BitboardEnglishSolitaireModel(3, 7);
+  }
+
+  // testing for an exception where the empty slot is off the board with a negative row
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidConstructionWithOutOfBoundsEmptySlot2() {
+    MarbleSolitaireModel model = new BitboardEnglishSolitaireModel(-1, 3);
+  }
+
+  // testing that every slot of the board is the same as the one of an EnglishSolitaireModel
+  // with the same empty slot
+  @Test
+  public void testSameBoardAsEnglishSolitaireModel() {
+    MarbleSolitaireModel english = new EnglishSolitaireModel(4, 2);
+    for (int i = 0; i < 7; i++) {
+      for (int j = 0; j < 7; j++) {
+        assertEquals(english.getSlotAt(i, j), this.specifiedEmptySlot.getSlotAt(i, j));
+      }
+    }
+  }
+
+  ///////////////////////// Tests for Methods /////////////////////////////////
+
+  // testing a valid move in every direction by checking conditions before and after
+  @Test
+  public void testMovesInEveryDirection() {
+    this.defaultConstructor.move(3, 5, 3, 3);
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty,
+            this.defaultConstructor.getSlotAt(3, 5));
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty,
+            this.defaultConstructor.getSlotAt(3, 4));
+    assertEquals(MarbleSolitaireModelState.SlotState.Marble,
+            this.defaultConstructor.getSlotAt(3, 3));
+    assertEquals(31, this.defaultConstructor.getScore());
+
+    // right into the slot that was just emptied
+    this.defaultConstructor.move(3, 2, 3, 4);
+    // down into the slot that was just emptied
+    this.defaultConstructor.move(1, 2, 3, 2);
+    // up into the slot that was just emptied
+    this.defaultConstructor.move(5, 3, 3, 3);
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty,
+            this.defaultConstructor.getSlotAt(5, 3));
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty,
+            this.defaultConstructor.getSlotAt(4, 3));
+    assertEquals(MarbleSolitaireModelState.SlotState.Marble,
+            this.defaultConstructor.getSlotAt(3, 3));
+    assertEquals(28, this.defaultConstructor.getScore());
+  }
+
+  // testing a move where the from slot is out of bounds
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidMove() {
+    this.defaultConstructor.move(-2, 2, 0, 2);
+  }
+
+  // testing a move where the from slot is invalid
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidMove2() {
+    this.defaultConstructor.move(1, 1, 1, 3);
+  }
+
+  // testing a move where the to slot is invalid
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidMove3() {
+    this.defaultConstructor.move(3, 1, 1, 1);
+  }
+
+  // testing a move where the from slot doesn't have a marble
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidMove4() {
+    this.defaultConstructor.move(3, 3, 3, 5);
+  }
+
+  // testing a move where the to slot isn't empty
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidMove5() {
+    this.defaultConstructor.move(3, 1, 5, 1);
+  }
+
+  // testing a move that isn't orthogonal
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidMove6() {
+    this.defaultConstructor.move(1, 1, 3, 3);
+  }
+
+  // testing a move that goes past the end of a row
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidMovePastEndOfRow() {
+    MarbleSolitaireModel model = new BitboardEnglishSolitaireModel(3, 0);
+    model.move(2, 5, 2, 7);
+  }
+
+  // playing out the same game as the EnglishSolitaireModel tests and checking to see if the game
+  // is over after every move
+  @Test
+  public void testIsGameOver() {
+    int[][] moves = {{3, 1, 3, 3}, {1, 2, 3, 2}, {1, 4, 1, 2}, {0, 2, 2, 2}, {0, 4, 0, 2},
+        {3, 2, 1, 2}, {0, 2, 2, 2}, {3, 3, 1, 3}, {2, 1, 2, 3}, {2, 3, 0, 3}, {2, 5, 2, 3},
+        {4, 5, 2, 5}, {2, 6, 2, 4}, {4, 6, 2, 6}, {2, 3, 2, 5}, {2, 6, 2, 4}, {3, 4, 1, 4},
+        {5, 4, 3, 4}, {4, 2, 4, 4}, {4, 4, 2, 4}, {2, 4, 0, 4}, {0, 4, 0, 2}, {6, 3, 4, 3},
+        {6, 2, 4, 2}, {4, 2, 4, 4}, {4, 0, 4, 2}};
+    for (int[] move : moves) {
+      assertFalse(this.defaultConstructor.isGameOver());
+      this.defaultConstructor.move(move[0], move[1], move[2], move[3]);
+    }
+    assertFalse(this.defaultConstructor.isGameOver());
+    this.defaultConstructor.move(2, 0, 4, 0);
+
+    // THERE ARE NO LONGER ANY VALID MOVES, THUS, THE GAME IS OVER
+    assertTrue(this.defaultConstructor.isGameOver());
+    assertEquals(5, this.defaultConstructor.getScore());
+  }
+
+  // testing for an exception when the specified slot is out of bounds
+  @Test(expected = IllegalArgumentException.class)
+  public void testGetSlotAtOutOfBoundsSpot() {
+    this.defaultConstructor.getSlotAt(0, 7);
+  }
+
+  // testing that the model is drawn the same way as an EnglishSolitaireModel
+  @Test
+  public void testRenderedByTextView() {
+    this.defaultConstructor.move(3, 1, 3, 3);
+    MarbleSolitaireModel english = new EnglishSolitaireModel();
+    english.move(3, 1, 3, 3);
+    assertEquals(new MarbleSolitaireTextView(english).toString(),
+            new MarbleSolitaireTextView(this.defaultConstructor).toString());
+  }
+
+  // testing that the spans found slot by slot match the spans of the english model
+  @Test
+  public void testRowSpans() {
+    MarbleSolitaireModel english = new EnglishSolitaireModel();
+    for (int i = 0; i < 7; i++) {
+      assertEquals(english.getRowStart(i), this.defaultConstructor.getRowStart(i));
+      assertEquals(english.getRowEnd(i), this.defaultConstructor.getRowEnd(i));
+    }
+  }
+}
@@ -0,0 +1,247 @@
+import org.junit.Test;
+
+import java.util.Random;
+
+import model.AbstractSolitaireModel;
+import model.BitboardEnglishSolitaireModel;
+import model.BitboardSolitaireModel;
+import model.EnglishSolitaireModel;
+import model.EuropeanSolitaireModel;
+import model.MarbleSolitaireModel;
+import model.MarbleSolitaireModelState;
+import model.MoveResult;
+import model.PackedMove;
+import model.TriangleSolitaireModel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A JUnit test class for {@link BitboardSolitaireModel}s.
+ */
+public class BitboardSolitaireModelTest {
+
+  /**
+   * Plays the same random game on the specified model and on a bitboard model started from a
+   * copy of it, checking after every move that both models agree on every slot, the score, and
+   * whether the game is over.
+   *
+   * @param model the model the game is played on
+   * @param copy  a model with the same starting board as the first one
+   * @param seed  the seed of the random moves
+   */
+  private void playSameRandomGame(MarbleSolitaireModel model, AbstractSolitaireModel copy,
+                                  long seed) {
+    MarbleSolitaireModel bitboard = new BitboardSolitaireModel(copy);
+    Random random = new Random(seed);
+    int size = model.getBoardSize();
+    int[][] jumps = {{0, 2}, {0, -2}, {2, 0}, {-2, 0}, {2, 2}, {-2, -2}};
+
+    while (!model.isGameOver()) {
+      assertFalse(bitboard.isGameOver());
+      // trying random moves until one is valid, making sure that both models agree on whether
+      // every move is valid
+      boolean moved = false;
+      while (!moved) {
+        int row = random.nextInt(size);
+        int col = random.nextInt(size);
+        int[] jump = jumps[random.nextInt(jumps.length)];
+        moved = this.tryMove(model, row, col, row + jump[0], col + jump[1]);
+        assertEquals(moved, this.tryMove(bitboard, row, col, row + jump[0], col + jump[1]));
+      }
+      assertEquals(model.getScore(), bitboard.getScore());
+      for (int i = 0; i < size; i++) {
+        for (int j = 0; j < size; j++) {
+          assertEquals(model.getSlotAt(i, j), bitboard.getSlotAt(i, j));
+        }
+      }
+    }
+    assertTrue(bitboard.isGameOver());
+  }
+
+  /**
+   * Attempts the specified move on the model.
+   *
+   * @param model   the model the move is made on
+   * @param fromRow the row of the from slot in the move
+   * @param fromCol the column of the from slot in the move
+   * @param toRow   the row of the to slot in the move
+   * @param toCol   the column of the to slot in the move
+   * @return true if the move was made, false if the model rejected it
+   */
+  private boolean tryMove(MarbleSolitaireModel model, int fromRow, int fromCol, int toRow,
+                          int toCol) {
+    try {
+      model.move(fromRow, fromCol, toRow, toCol);
+      return true;
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  // testing that an english board of arm thickness 5 plays out the same as the original model
+  @Test
+  public void testSameGameAsEnglishSolitaireModel() {
+    this.playSameRandomGame(new EnglishSolitaireModel(5), new EnglishSolitaireModel(5), 1);
+  }
+
+  // testing that a large english board spanning many words plays out the same
+  @Test
+  public void testSameGameAsLargeEnglishSolitaireModel() {
+    this.playSameRandomGame(new EnglishSolitaireModel(9, 12, 3),
+            new EnglishSolitaireModel(9, 12, 3), 2);
+  }
+
+  // testing that a european board plays out the same as the original model
+  @Test
+  public void testSameGameAsEuropeanSolitaireModel() {
+    this.playSameRandomGame(new EuropeanSolitaireModel(5), new EuropeanSolitaireModel(5), 3);
+  }
+
+  // testing that a triangle board plays out the same as the original model, including the
+  // diagonal jumps
+  @Test
+  public void testSameGameAsTriangleSolitaireModel() {
+    this.playSameRandomGame(new TriangleSolitaireModel(8, 4, 2),
+            new TriangleSolitaireModel(8, 4, 2), 4);
+  }
+
+  // testing that the bitboard starts from the current state of the model rather than its start
+  @Test
+  public void testStartsFromCurrentBoard() {
+    AbstractSolitaireModel english = new EnglishSolitaireModel();
+    english.move(3, 1, 3, 3);
+    MarbleSolitaireModel bitboard = new BitboardSolitaireModel(english);
+    assertEquals(31, bitboard.getScore());
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty, bitboard.getSlotAt(3, 1));
+    assertEquals(MarbleSolitaireModelState.SlotState.Marble, bitboard.getSlotAt(3, 3));
+    assertEquals(MarbleSolitaireModelState.SlotState.Invalid, bitboard.getSlotAt(0, 0));
+  }
+
+  // testing a diagonal move on a triangle board
+  @Test
+  public void testDiagonalMove() {
+    MarbleSolitaireModel bitboard = new BitboardSolitaireModel(new TriangleSolitaireModel());
+    bitboard.move(2, 2, 0, 0);
+    assertEquals(MarbleSolitaireModelState.SlotState.Marble, bitboard.getSlotAt(0, 0));
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty, bitboard.getSlotAt(1, 1));
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty, bitboard.getSlotAt(2, 2));
+    assertEquals(13, bitboard.getScore());
+  }
+
+  // testing for an exception when a diagonal move is made on a square board
+  @Test(expected = IllegalArgumentException.class)
+  public void testDiagonalMoveOnSquareBoard() {
+    MarbleSolitaireModel bitboard = new BitboardSolitaireModel(new EuropeanSolitaireModel());
+    bitboard.move(1, 1, 3, 3);
+  }
+
+  // testing for an exception when a move is made off the board
+  @Test(expected = IllegalArgumentException.class)
+  public void testMoveOutOfBounds() {
+    MarbleSolitaireModel bitboard = new BitboardSolitaireModel(new EnglishSolitaireModel());
+    bitboard.move(3, 5, 3, 7);
+  }
+
+  // testing for an exception when the starting model is null
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullStartingModel() {
+    MarbleSolitaireModel bitboard = new BitboardSolitaireModel(null);
+  }
+
+  // testing that both bitboard models give the same result as the english model for every move
+  // tried during a random game
+  @Test
+  public void testTryMoveResultsMatch() {
+    MarbleSolitaireModel english = new EnglishSolitaireModel();
+    MarbleSolitaireModel bitboard = new BitboardSolitaireModel(new EnglishSolitaireModel());
+    MarbleSolitaireModel bitboardEnglish = new BitboardEnglishSolitaireModel();
+    Random random = new Random(7);
+    for (int i = 0; i < 5000; i++) {
+      int fromRow = random.nextInt(9) - 1;
+      int fromCol = random.nextInt(9) - 1;
+      int toRow = fromRow + random.nextInt(5) - 2;
+      int toCol = fromCol + random.nextInt(5) - 2;
+      int result = english.tryMove(fromRow, fromCol, toRow, toCol);
+      assertEquals(result, bitboard.tryMove(fromRow, fromCol, toRow, toCol));
+      assertEquals(result, bitboardEnglish.tryMove(fromRow, fromCol, toRow, toCol));
+      assertEquals(english.getScore(), bitboard.getScore());
+    }
+  }
+
+  // testing that the bitboard models list the same legal moves in the same order as the models
+  // they match, all through random games on every variant
+  @Test
+  public void testLegalMovesMatch() {
+    this.playListingLegalMoves(new EnglishSolitaireModel(),
+            new BitboardSolitaireModel(new EnglishSolitaireModel()),
+            new BitboardEnglishSolitaireModel(), 1);
+    this.playListingLegalMoves(new EuropeanSolitaireModel(5, 1, 4),
+            new BitboardSolitaireModel(new EuropeanSolitaireModel(5, 1, 4)), null, 2);
+    this.playListingLegalMoves(new TriangleSolitaireModel(8, 4, 2),
+            new BitboardSolitaireModel(new TriangleSolitaireModel(8, 4, 2)), null, 3);
+  }
+
+  /**
+   * Plays a random game by always making one of the listed legal moves, checking before every
+   * move that every model lists the same legal moves.
+   *
+   * @param model  the model the game is played on
+   * @param copy   a model with the same starting board as the first one
+   * @param other  another model with the same starting board, or null
+   * @param seed   the seed of the random moves
+   */
+  private void playListingLegalMoves(MarbleSolitaireModel model, MarbleSolitaireModel copy,
+                                     MarbleSolitaireModel other, long seed) {
+    Random random = new Random(seed);
+    int size = model.getBoardSize();
+    int[] moves = new int[6 * size * size];
+    int[] copyMoves = new int[6 * size * size];
+    int count = model.legalMoves(moves);
+    while (count > 0) {
+      assertEquals(count, copy.legalMoves(copyMoves));
+      for (int i = 0; i < count; i++) {
+        assertEquals(moves[i], copyMoves[i]);
+      }
+      if (other != null) {
+        assertEquals(count, other.legalMoves(copyMoves));
+        for (int i = 0; i < count; i++) {
+          assertEquals(moves[i], copyMoves[i]);
+        }
+      }
+      int move = moves[random.nextInt(count)];
+      int fromRow = PackedMove.fromRow(move, size);
+      int fromCol = PackedMove.fromCol(move, size);
+      int toRow = PackedMove.toRow(move, size);
+      int toCol = PackedMove.toCol(move, size);
+      assertEquals(MoveResult.OK, model.tryMove(fromRow, fromCol, toRow, toCol));
+      assertEquals(MoveResult.OK, copy.tryMove(fromRow, fromCol, toRow, toCol));
+      if (other != null) {
+        assertEquals(MoveResult.OK, other.tryMove(fromRow, fromCol, toRow, toCol));
+      }
+      count = model.legalMoves(moves);
+    }
+    assertTrue(model.isGameOver());
+    assertEquals(0, copy.legalMoves(copyMoves));
+  }
+
+  // testing that a batch of moves made by the default applyMoves plays the same as the array
+  // model, stopping at the same move
+  @Test
+  public void testApplyMovesSameAsArrayModel() {
+    EnglishSolitaireModel english = new EnglishSolitaireModel();
+    MarbleSolitaireModel bitboard = new BitboardSolitaireModel(new EnglishSolitaireModel());
+    int[] moves = {PackedMove.pack(3, 1, PackedMove.RIGHT, 7),
+        PackedMove.pack(5, 2, PackedMove.UP, 7), PackedMove.pack(4, 0, PackedMove.UP_LEFT, 7),
+        PackedMove.pack(1, 3, PackedMove.DOWN, 7)};
+    assertEquals(2, english.applyMoves(moves, 0, 4));
+    assertEquals(2, bitboard.applyMoves(moves, 0, 4));
+    assertEquals(english.getScore(), bitboard.getScore());
+    for (int i = 0; i < 7; i++) {
+      for (int j = 0; j < 7; j++) {
+        assertEquals(english.getSlotAt(i, j), bitboard.getSlotAt(i, j));
+      }
+    }
+  }
+}
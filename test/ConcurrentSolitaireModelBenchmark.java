@@ -0,0 +1,116 @@
+import java.util.concurrent.atomic.LongAdder;
+
+import model.ConcurrentSolitaireModel;
+import model.EnglishSolitaireModel;
+import model.MarbleSolitaireModel;
+import model.MarbleSolitaireModelState;
+
+/**
+ * A contention benchmark for the {@link ConcurrentSolitaireModel}, which is not a JUnit test and
+ * is run on its own through its main method. With one thread making and taking back a move over
+ * and over, it measures how many slots per second are read by 1, 2, 4, ... reader threads, up to
+ * the number of cores, first through the optimistic reads of the concurrent model and then
+ * through a model that takes a single lock for every read and move.
+ */
+public class ConcurrentSolitaireModelBenchmark {
+
+  private static final long RUN_MILLIS = 1000;
+
+  /**
+   * Runs the benchmark and prints the reads per second for every number of readers.
+   *
+   * @param args the length of every run in milliseconds, if given
+   * @throws InterruptedException if the benchmark is interrupted
+   */
+  public static void main(String[] args) throws InterruptedException {
+    long millis = args.length > 0 ? Long.parseLong(args[0]) : RUN_MILLIS;
+    int cores = Runtime.getRuntime().availableProcessors();
+    System.out.println("cores: " + cores);
+    for (int readers = 1; readers <= Math.max(cores, 1); readers *= 2) {
+      double optimistic = run(new ConcurrentSolitaireModel(new EnglishSolitaireModel(5)),
+              readers, millis);
+      double locked = run(new LockedModel(new EnglishSolitaireModel(5)), readers, millis);
+      System.out.printf("readers: %d  optimistic: %.1fM reads/s  locked: %.1fM reads/s%n",
+              readers, optimistic / 1e6, locked / 1e6);
+    }
+  }
+
+  /**
+   * Reads the slots of the model with the specified number of threads while another thread keeps
+   * making and taking back the same move.
+   *
+   * @param model   the model being read
+   * @param readers the number of reader threads
+   * @param millis  how long to read for
+   * @return the number of slots read per second by all of the readers together
+   * @throws InterruptedException if the benchmark is interrupted
+   */
+  private static double run(MarbleSolitaireModel model, int readers, long millis)
+          throws InterruptedException {
+    LongAdder reads = new LongAdder();
+    long end = System.nanoTime() + millis * 1_000_000;
+    Thread writer = new Thread(() -> {
+      while (System.nanoTime() < end) {
+        model.move(6, 4, 6, 6);
+        model.undo();
+        Thread.yield();
+      }
+    });
+    Thread[] threads = new Thread[readers];
+    for (int r = 0; r < readers; r++) {
+      threads[r] = new Thread(() -> {
+        long count = 0;
+        int size = model.getBoardSize();
+        while (System.nanoTime() < end) {
+          for (int i = 0; i < size; i++) {
+            model.getSlotAt(i, 6);
+          }
+          count += size;
+        }
+        reads.add(count);
+      });
+    }
+    writer.start();
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    writer.join();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    return reads.sum() * 1000.0 / millis;
+  }
+
+  /**
+   * A model which takes the same lock for every read and every move, to compare against.
+   */
+  private static class LockedModel extends ConcurrentSolitaireModel {
+
+    private final MarbleSolitaireModel model;
+
+    /**
+     * Constructor for a model which locks the specified model for every read and move.
+     *
+     * @param model the model being wrapped
+     */
+    LockedModel(MarbleSolitaireModel model) {
+      super(model);
+      this.model = model;
+    }
+
+    @Override
+    public synchronized void move(int fromRow, int fromCol, int toRow, int toCol) {
+      this.model.move(fromRow, fromCol, toRow, toCol);
+    }
+
+    @Override
+    public synchronized boolean undo() {
+      return this.model.undo();
+    }
+
+    @Override
+    public synchronized MarbleSolitaireModelState.SlotState getSlotAt(int row, int col) {
+      return this.model.getSlotAt(row, col);
+    }
+  }
+}
@@ -0,0 +1,113 @@
+import org.junit.Test;
+
+import java.util.Random;
+
+import model.ConcurrentSolitaireModel;
+import model.EnglishSolitaireModel;
+import model.MarbleSolitaireModel;
+import model.MarbleSolitaireModelState;
+import model.MoveResult;
+import model.PackedMove;
+import model.TriangleSolitaireModel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A JUnit test class for the {@link ConcurrentSolitaireModel}.
+ */
+public class ConcurrentSolitaireModelTest {
+
+  /**
+   * Counts the marbles on the board by looking at every slot.
+   *
+   * @param model the model whose marbles are counted
+   * @return the number of slots with a marble
+   */
+  private int countMarbles(MarbleSolitaireModelState model) {
+    int count = 0;
+    for (int i = 0; i < model.getBoardSize(); i++) {
+      for (int j = 0; j < model.getBoardSize(); j++) {
+        if (model.getSlotAt(i, j) == MarbleSolitaireModelState.SlotState.Marble) {
+          count += 1;
+        }
+      }
+    }
+    return count;
+  }
+
+  // testing that the wrapper plays exactly like the model it wraps
+  @Test
+  public void testSameAsWrappedModel() {
+    MarbleSolitaireModel model = new ConcurrentSolitaireModel(new TriangleSolitaireModel());
+    assertEquals(5, model.getBoardSize());
+    assertEquals(14, model.getScore());
+    assertEquals(0, model.getRowStart(3));
+    assertEquals(4, model.getRowEnd(3));
+    model.move(2, 0, 0, 0);
+    assertEquals(MoveResult.OCCUPIED_TARGET, model.tryMove(2, 2, 0, 0));
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty, model.getSlotAt(1, 0));
+    assertEquals(13, model.getScore());
+    assertEquals(4, model.legalMoves(new int[4]));
+    assertTrue(model.undo());
+    assertTrue(model.redo());
+    assertFalse(model.isGameOver());
+  }
+
+  // testing that an invalid slot still throws the exception of the wrapped model
+  @Test(expected = IllegalArgumentException.class)
+  public void testGetSlotOutOfBounds() {
+    new ConcurrentSolitaireModel(new EnglishSolitaireModel()).getSlotAt(7, 0);
+  }
+
+  // testing that an invalid move still throws the exception of the wrapped model
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidMove() {
+    new ConcurrentSolitaireModel(new EnglishSolitaireModel()).move(0, 0, 0, 2);
+  }
+
+  // testing for an exception when there is no model to wrap
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullModel() {
+    new ConcurrentSolitaireModel(null);
+  }
+
+  // testing that moves made by many threads at once never make two moves on the same board
+  @Test
+  public void testConcurrentMoves() throws InterruptedException {
+    MarbleSolitaireModel model = new ConcurrentSolitaireModel(new EnglishSolitaireModel(5));
+    int start = model.getScore();
+    int[] made = new int[4];
+    Thread[] players = new Thread[made.length];
+    for (int p = 0; p < players.length; p++) {
+      int player = p;
+      players[p] = new Thread(() -> {
+        Random random = new Random(player);
+        int[] moves = new int[200];
+        while (!model.isGameOver()) {
+          // every player races the others to make one of the legal moves it has seen
+          int count = Math.min(model.legalMoves(moves), moves.length);
+          if (count == 0) {
+            continue;
+          }
+          int move = moves[random.nextInt(count)];
+          if (model.tryMove(PackedMove.fromRow(move, 13), PackedMove.fromCol(move, 13),
+                  PackedMove.toRow(move, 13), PackedMove.toCol(move, 13)) == MoveResult.OK) {
+            made[player] += 1;
+          }
+        }
+      });
+    }
+    for (Thread player : players) {
+      player.start();
+    }
+    for (Thread player : players) {
+      player.join();
+    }
+    int total = made[0] + made[1] + made[2] + made[3];
+    assertEquals(start - total, model.getScore());
+    assertEquals(model.getScore(), this.countMarbles(model));
+    assertEquals(0, model.legalMoves(new int[0]));
+  }
+}
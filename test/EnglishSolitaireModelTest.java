@@ -1,13 +1,22 @@
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
 import model.EnglishSolitaireModel;
+import model.EuropeanSolitaireModel;
 import model.MarbleSolitaireModel;
 import model.MarbleSolitaireModelState;
+import model.MoveListener;
+import model.MoveResult;
+import model.PackedMove;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertNotEquals;
 
 /**
  * A JUnit test class for {@link EnglishSolitaireModel}s.
@@ -605,4 +614,602 @@ public class EnglishSolitaireModelTest {
     assertEquals(32, this.specifiedEmptySlot.getScore());
     assertEquals(104, this.specifiedEmptySlotAndArmLength5.getScore());
   }
+
+  // testing that the span of every row covers exactly the slots in the plus
+  @Test
+  public void testRowSpans() {
+    assertEquals(2, this.defaultConstructor.getRowStart(0));
+    assertEquals(5, this.defaultConstructor.getRowEnd(0));
+    assertEquals(0, this.defaultConstructor.getRowStart(3));
+    assertEquals(7, this.defaultConstructor.getRowEnd(3));
+    for (int i = 0; i < this.armLength7.getBoardSize(); i++) {
+      for (int j = 0; j < this.armLength7.getBoardSize(); j++) {
+        assertEquals(j < this.armLength7.getRowStart(i) || j >= this.armLength7.getRowEnd(i),
+                this.armLength7.getSlotAt(i, j) == MarbleSolitaireModelState.SlotState.Invalid);
+      }
+    }
+  }
+
+  // testing for an exception when the row of a span is out of bounds
+  @Test(expected = IllegalArgumentException.class)
+  public void testRowSpanOutOfBounds() {
+    this.defaultConstructor.getRowStart(7);
+  }
+
+  // testing the result of trying every kind of move, and that only a valid move changes the board
+  @Test
+  public void testTryMoveResults() {
+    assertEquals(MoveResult.OUT_OF_BOUNDS, this.defaultConstructor.tryMove(-1, 3, 1, 3));
+    assertEquals(MoveResult.NOT_A_JUMP, this.defaultConstructor.tryMove(3, 0, 3, 3));
+    assertEquals(MoveResult.NOT_A_JUMP, this.defaultConstructor.tryMove(0, 0, 2, 0));
+    assertEquals(32, this.defaultConstructor.getScore());
+    assertEquals(MoveResult.OK, this.defaultConstructor.tryMove(3, 5, 3, 3));
+    assertEquals(31, this.defaultConstructor.getScore());
+    assertEquals(MarbleSolitaireModelState.SlotState.Marble,
+            this.defaultConstructor.getSlotAt(3, 3));
+    assertEquals(MoveResult.NO_MARBLE, this.defaultConstructor.tryMove(3, 6, 3, 4));
+    assertEquals(MoveResult.NO_MARBLE, this.defaultConstructor.tryMove(3, 5, 3, 3));
+    assertEquals(MoveResult.OCCUPIED_TARGET, this.defaultConstructor.tryMove(1, 3, 3, 3));
+    assertEquals(31, this.defaultConstructor.getScore());
+  }
+
+  // testing that the legal moves of the starting board are the four jumps into the center
+  @Test
+  public void testLegalMoves() {
+    int[] moves = new int[8];
+    assertEquals(4, this.defaultConstructor.legalMoves(moves));
+    assertEquals(PackedMove.pack(1, 3, PackedMove.DOWN, 7), moves[0]);
+    assertEquals(PackedMove.pack(3, 1, PackedMove.RIGHT, 7), moves[1]);
+    assertEquals(PackedMove.pack(3, 5, PackedMove.LEFT, 7), moves[2]);
+    assertEquals(PackedMove.pack(5, 3, PackedMove.UP, 7), moves[3]);
+    assertEquals(3, PackedMove.toRow(moves[0], 7));
+    assertEquals(3, PackedMove.toCol(moves[0], 7));
+
+    // only the moves that fit are written, but all of them are counted
+    int[] small = new int[2];
+    assertEquals(4, this.defaultConstructor.legalMoves(small));
+    assertEquals(moves[1], small[1]);
+
+    StringBuilder visited = new StringBuilder();
+    this.defaultConstructor.forEachLegalMove(move -> visited.append(move).append(" "));
+    assertEquals(moves[0] + " " + moves[1] + " " + moves[2] + " " + moves[3] + " ",
+            visited.toString());
+  }
+
+  // testing that a model that only reads its slots finds the same legal moves by default
+  @Test
+  public void testDefaultLegalMoves() {
+    MarbleSolitaireModel model = new EnglishSolitaireModel();
+    MarbleSolitaireModel slotsOnly = new MarbleSolitaireModel() {
+      @Override
+      public void move(int fromRow, int fromCol, int toRow, int toCol) {
+        model.move(fromRow, fromCol, toRow, toCol);
+      }
+
+      @Override
+      public boolean isGameOver() {
+        return model.isGameOver();
+      }
+
+      @Override
+      public int getBoardSize() {
+        return model.getBoardSize();
+      }
+
+      @Override
+      public SlotState getSlotAt(int row, int col) {
+        return model.getSlotAt(row, col);
+      }
+
+      @Override
+      public int getScore() {
+        return model.getScore();
+      }
+    };
+    int[] expected = new int[16];
+    int[] moves = new int[16];
+    assertEquals(4, slotsOnly.legalMoves(moves));
+    model.legalMoves(expected);
+    assertArrayEquals(expected, moves);
+
+    slotsOnly.move(3, 1, 3, 3);
+    slotsOnly.move(3, 4, 3, 2);
+    Arrays.fill(expected, 0);
+    Arrays.fill(moves, 0);
+    assertEquals(model.legalMoves(expected), slotsOnly.legalMoves(moves));
+    assertArrayEquals(expected, moves);
+    assertEquals(model.legalMoves(new int[0]), slotsOnly.legalMoves(new int[1]));
+  }
+
+  // testing that undo and redo step back and forth through the moves made
+  @Test
+  public void testUndoAndRedo() {
+    assertFalse(this.defaultConstructor.undo());
+    assertFalse(this.defaultConstructor.redo());
+    this.defaultConstructor.move(3, 1, 3, 3);
+    this.defaultConstructor.move(3, 4, 3, 2);
+    assertEquals(30, this.defaultConstructor.getScore());
+
+    assertTrue(this.defaultConstructor.undo());
+    assertEquals(31, this.defaultConstructor.getScore());
+    assertEquals(MarbleSolitaireModelState.SlotState.Marble,
+            this.defaultConstructor.getSlotAt(3, 4));
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty,
+            this.defaultConstructor.getSlotAt(3, 2));
+    assertTrue(this.defaultConstructor.undo());
+    assertFalse(this.defaultConstructor.undo());
+    assertEquals(new EnglishSolitaireModel().getScore(), this.defaultConstructor.getScore());
+    for (int i = 0; i < 7; i++) {
+      for (int j = 0; j < 7; j++) {
+        assertEquals(new EnglishSolitaireModel().getSlotAt(i, j),
+                this.defaultConstructor.getSlotAt(i, j));
+      }
+    }
+    assertEquals(4, this.defaultConstructor.legalMoves(new int[8]));
+
+    assertTrue(this.defaultConstructor.redo());
+    assertTrue(this.defaultConstructor.redo());
+    assertFalse(this.defaultConstructor.redo());
+    assertEquals(30, this.defaultConstructor.getScore());
+    assertEquals(MarbleSolitaireModelState.SlotState.Marble,
+            this.defaultConstructor.getSlotAt(3, 2));
+
+    // a new move forgets the moves that could have been redone
+    this.defaultConstructor.undo();
+    this.defaultConstructor.move(1, 2, 3, 2);
+    assertFalse(this.defaultConstructor.redo());
+  }
+
+  // testing that a whole game can be undone back to the start and played again
+  @Test
+  public void testUndoWholeGame() {
+    int[] moves = new int[64];
+    int made = 0;
+    while (!this.armLength5.isGameOver()) {
+      this.armLength5.legalMoves(moves);
+      this.armLength5.move(PackedMove.fromRow(moves[0], 13), PackedMove.fromCol(moves[0], 13),
+              PackedMove.toRow(moves[0], 13), PackedMove.toCol(moves[0], 13));
+      made += 1;
+    }
+    int finalScore = this.armLength5.getScore();
+    for (int i = 0; i < made; i++) {
+      assertTrue(this.armLength5.undo());
+    }
+    assertFalse(this.armLength5.undo());
+    assertEquals(new EnglishSolitaireModel(5).getScore(), this.armLength5.getScore());
+    assertFalse(this.armLength5.isGameOver());
+    while (this.armLength5.redo()) {
+      made -= 1;
+    }
+    assertEquals(0, made);
+    assertEquals(finalScore, this.armLength5.getScore());
+    assertTrue(this.armLength5.isGameOver());
+  }
+
+  // testing that resetting a played board gives the same board as a new model
+  @Test
+  public void testReset() {
+    EnglishSolitaireModel model = new EnglishSolitaireModel(5);
+    model.move(6, 4, 6, 6);
+    model.move(6, 7, 6, 5);
+    model.reset(2, 6);
+    EnglishSolitaireModel fresh = new EnglishSolitaireModel(5, 2, 6);
+    assertEquals(fresh.getScore(), model.getScore());
+    for (int i = 0; i < 13; i++) {
+      for (int j = 0; j < 13; j++) {
+        assertEquals(fresh.getSlotAt(i, j), model.getSlotAt(i, j));
+      }
+    }
+    assertFalse(model.undo());
+    assertEquals(fresh.legalMoves(new int[0]), model.legalMoves(new int[0]));
+    model.move(4, 6, 2, 6);
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty, model.getSlotAt(3, 6));
+  }
+
+  // testing for an exception when the board is reset with an invalid empty slot
+  @Test(expected = IllegalArgumentException.class)
+  public void testResetInvalidEmptySlot() {
+    new EnglishSolitaireModel().reset(0, 0);
+  }
+
+  // testing that a copy starts in the same state and is played separately from the original
+  @Test
+  public void testCopy() {
+    EnglishSolitaireModel model = new EnglishSolitaireModel();
+    model.move(3, 1, 3, 3);
+    EnglishSolitaireModel copy = model.copy();
+    assertEquals(31, copy.getScore());
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty, copy.getSlotAt(3, 1));
+    copy.move(1, 2, 3, 2);
+    assertEquals(30, copy.getScore());
+    assertEquals(31, model.getScore());
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty, model.getSlotAt(3, 2));
+    assertTrue(copy.undo());
+    assertTrue(copy.undo());
+    assertFalse(copy.undo());
+    assertEquals(32, copy.getScore());
+    assertEquals(31, model.getScore());
+  }
+
+  // testing that the same position reached by different moves has the same hash and is equal
+  @Test
+  public void testPositionHashTransposition() {
+    EnglishSolitaireModel first = new EnglishSolitaireModel(5);
+    EnglishSolitaireModel second = new EnglishSolitaireModel(5);
+    long start = first.positionHash();
+    first.move(6, 8, 6, 6);
+    second.move(6, 8, 6, 6);
+    first.move(4, 7, 6, 7);
+    second.move(8, 8, 6, 8);
+    assertNotEquals(first.positionHash(), second.positionHash());
+    assertNotEquals(first, second);
+    first.move(8, 8, 6, 8);
+    second.move(4, 7, 6, 7);
+    assertEquals(first.positionHash(), second.positionHash());
+    assertEquals(first, second);
+    assertEquals(first.hashCode(), second.hashCode());
+    assertTrue(first.undo());
+    assertTrue(first.undo());
+    assertTrue(first.undo());
+    assertEquals(start, first.positionHash());
+    assertEquals(new EnglishSolitaireModel(5), first);
+  }
+
+  // testing that models are only equal to models of the same type and size in the same position
+  @Test
+  public void testEqualsDifferentBoards() {
+    EnglishSolitaireModel model = new EnglishSolitaireModel();
+    assertEquals(model, model.copy());
+    assertEquals(model.positionHash(), model.copy().positionHash());
+    assertNotEquals(model, new EnglishSolitaireModel(5));
+    assertNotEquals(model, new EnglishSolitaireModel(3, 2, 3));
+    assertNotEquals(model, new EuropeanSolitaireModel());
+    assertNotEquals(model, null);
+    model.move(3, 1, 3, 3);
+    model.reset(3, 3);
+    assertEquals(new EnglishSolitaireModel(), model);
+    assertEquals(new EnglishSolitaireModel().positionHash(), model.positionHash());
+  }
+
+  // testing that positions which are rotations or reflections of each other have the same
+  // canonical form, and that the moves made before canonicalizing can still be undone
+  @Test
+  public void testCanonicalize() {
+    EnglishSolitaireModel model = new EnglishSolitaireModel();
+    int[] moves = {PackedMove.pack(3, 1, PackedMove.RIGHT, 7),
+        PackedMove.pack(5, 2, PackedMove.UP, 7)};
+    EnglishSolitaireModel first = null;
+    for (int t = 0; t < model.symmetryCount(); t++) {
+      EnglishSolitaireModel image = new EnglishSolitaireModel();
+      for (int move : moves) {
+        int moved = model.transformMove(move, t);
+        image.move(PackedMove.fromRow(moved, 7), PackedMove.fromCol(moved, 7),
+                PackedMove.toRow(moved, 7), PackedMove.toCol(moved, 7));
+      }
+      EnglishSolitaireModel canonical = image.copy();
+      int transform = canonical.canonicalize();
+      assertEquals(image.canonicalTransform(), transform);
+      assertEquals(30, canonical.getScore());
+      if (first == null) {
+        first = canonical.copy();
+      }
+      assertEquals(first, canonical);
+      assertEquals(first.positionHash(), canonical.positionHash());
+      assertTrue(canonical.undo());
+      assertTrue(canonical.undo());
+      assertEquals(new EnglishSolitaireModel(), canonical);
+    }
+  }
+
+  // testing that a move moved with a symmetry and then its inverse is the same move
+  @Test
+  public void testTransformMoveInverse() {
+    EnglishSolitaireModel model = new EnglishSolitaireModel(5);
+    assertEquals(8, model.symmetryCount());
+    assertEquals(3, model.inverseTransform(1));
+    assertEquals(2, model.inverseTransform(2));
+    assertEquals(7, model.inverseTransform(7));
+    int move = PackedMove.pack(4, 6, PackedMove.DOWN, 13);
+    assertEquals(PackedMove.pack(6, 8, PackedMove.LEFT, 13), model.transformMove(move, 1));
+    for (int t = 0; t < 8; t++) {
+      assertEquals(move, model.transformMove(model.transformMove(move, t),
+              model.inverseTransform(t)));
+    }
+  }
+
+  // testing for an exception when a symmetry is not one of the symmetries of the board
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidTransform() {
+    new EnglishSolitaireModel().inverseTransform(8);
+  }
+
+  // testing that a listener is told about every move, undo, redo, and reset until it is removed
+  @Test
+  public void testMoveListener() {
+    EnglishSolitaireModel model = new EnglishSolitaireModel();
+    StringBuilder log = new StringBuilder();
+    MoveListener listener = new MoveListener() {
+      @Override
+      public void moveMade(int fromRow, int fromCol, int toRow, int toCol, boolean undone) {
+        log.append(fromRow).append(fromCol).append(toRow).append(toCol).append(undone ? "u" : "")
+                .append(" ");
+      }
+
+      @Override
+      public void boardChanged() {
+        log.append("changed ");
+      }
+    };
+    assertTrue(model.addMoveListener(listener));
+    model.move(3, 1, 3, 3);
+    assertEquals(MoveResult.NO_MARBLE, model.tryMove(3, 1, 3, 3));
+    model.undo();
+    model.redo();
+    model.reset(3, 3);
+    assertEquals("3133 3133u 3133 changed ", log.toString());
+    assertTrue(model.removeMoveListener(listener));
+    assertFalse(model.removeMoveListener(listener));
+    model.move(3, 1, 3, 3);
+    assertEquals("3133 3133u 3133 changed ", log.toString());
+  }
+
+  // testing for an exception when a null listener is registered
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullMoveListener() {
+    new EnglishSolitaireModel().addMoveListener(null);
+  }
+
+  // testing that the bulk reads of the board give the same slots as reading them one at a time
+  @Test
+  public void testCopyBoard() {
+    EnglishSolitaireModel model = new EnglishSolitaireModel();
+    model.move(3, 1, 3, 3);
+    byte[] board = new byte[49];
+    byte[] row = new byte[7];
+    long[] occupancy = {-1L};
+    model.copyBoard(board);
+    model.copyOccupancy(occupancy);
+    for (int i = 0; i < 7; i++) {
+      model.copyRow(i, row);
+      for (int j = 0; j < 7; j++) {
+        assertEquals(model.getSlotAt(i, j).ordinal(), board[i * 7 + j]);
+        assertEquals(model.getSlotAt(i, j).ordinal(), row[j]);
+        assertEquals(model.getSlotAt(i, j) == MarbleSolitaireModelState.SlotState.Marble,
+                (occupancy[0] & (1L << (i * 7 + j))) != 0);
+      }
+    }
+    assertEquals(31, Long.bitCount(occupancy[0]));
+  }
+
+  // testing for an exception when the array is too short to hold the board
+  @Test(expected = IllegalArgumentException.class)
+  public void testCopyBoardTooShort() {
+    new EnglishSolitaireModel().copyBoard(new byte[48]);
+  }
+
+  // testing for an exception when the row being copied is not on the board
+  @Test(expected = IllegalArgumentException.class)
+  public void testCopyRowOutOfBounds() {
+    new EnglishSolitaireModel().copyRow(7, new byte[7]);
+  }
+
+  // testing that random games picked with randomLegalMove only make legal moves, and that the
+  // set of legal moves always has the same moves as legalMoves, even after undos and resets
+  @Test
+  public void testRandomLegalMove() {
+    EnglishSolitaireModel model = new EnglishSolitaireModel(5);
+    SplittableRandom random = new SplittableRandom(3);
+    int[] moves = new int[200];
+    int[] unordered = new int[200];
+    for (int game = 0; game < 3; game++) {
+      int move = model.randomLegalMove(random);
+      while (move != -1) {
+        assertEquals(MoveResult.OK, model.tryMove(PackedMove.fromRow(move, 13),
+                PackedMove.fromCol(move, 13), PackedMove.toRow(move, 13),
+                PackedMove.toCol(move, 13)));
+        if (random.nextInt(4) == 0) {
+          model.undo();
+        }
+        int count = model.legalMoves(moves);
+        assertEquals(count, model.unorderedLegalMoves(unordered));
+        Arrays.sort(unordered, 0, count);
+        assertArrayEquals(Arrays.copyOf(moves, count), Arrays.copyOf(unordered, count));
+        move = model.randomLegalMove(random);
+      }
+      assertTrue(model.isGameOver());
+      model.reset(6, 4);
+      assertEquals(4, model.unorderedLegalMoves(unordered));
+    }
+  }
+
+  // testing that a batch of moves is made up to the first move that is not valid
+  @Test
+  public void testApplyMoves() {
+    EnglishSolitaireModel model = new EnglishSolitaireModel();
+    int[] moves = {-1, PackedMove.pack(3, 1, PackedMove.RIGHT, 7),
+        PackedMove.pack(5, 2, PackedMove.UP, 7), PackedMove.pack(3, 1, PackedMove.RIGHT, 7),
+        PackedMove.pack(3, 3, PackedMove.LEFT, 7)};
+    assertEquals(2, model.applyMoves(moves, 1, 4));
+    assertEquals(30, model.getScore());
+    assertEquals(MarbleSolitaireModelState.SlotState.Marble, model.getSlotAt(3, 2));
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty, model.getSlotAt(4, 2));
+    assertEquals(0, model.applyMoves(moves, 0, 1));
+    assertEquals(1, model.applyMoves(moves, 4, 1));
+    assertEquals(29, model.getScore());
+    assertTrue(model.undo());
+    assertEquals(30, model.getScore());
+    assertEquals(0, model.applyMoves(moves, 5, 0));
+  }
+
+  // testing for an exception when the batch of moves is not inside the array
+  @Test(expected = IllegalArgumentException.class)
+  public void testApplyMovesOutsideArray() {
+    new EnglishSolitaireModel().applyMoves(new int[3], 2, 2);
+  }
+
+  // testing that unjumping the move just made puts the board back the way it was
+  @Test
+  public void testUnjump() {
+    EnglishSolitaireModel model = new EnglishSolitaireModel();
+    EnglishSolitaireModel start = model.copy();
+    int move = PackedMove.pack(3, 1, PackedMove.RIGHT, 7);
+    assertFalse(model.unjump(move));
+    model.move(3, 1, 3, 3);
+    int[] moves = new int[20];
+    // the marble can also be taken back the other way, from the slot it jumped over
+    assertEquals(2, model.reverseMoves(moves));
+    assertEquals(move, moves[0]);
+    assertEquals(PackedMove.pack(3, 2, PackedMove.LEFT, 7), moves[1]);
+    assertTrue(model.unjump(move));
+    assertEquals(start, model);
+    assertEquals(32, model.getScore());
+    assertFalse(model.undo());
+    assertFalse(model.isGameOver());
+  }
+
+  // testing that a game played backwards from a single marble can be played forwards to win
+  @Test
+  public void testPlayBackwardsFromSingleMarble() {
+    EnglishSolitaireModel model = new EnglishSolitaireModel();
+    model.resetToSingleMarble(3, 3);
+    assertEquals(1, model.getScore());
+    assertTrue(model.isGameOver());
+    SplittableRandom random = new SplittableRandom(5);
+    int[] reverse = new int[100];
+    int[] played = new int[40];
+    int count = 0;
+    int options = model.reverseMoves(reverse);
+    while (options > 0 && count < 20) {
+      played[count] = reverse[random.nextInt(Math.min(options, reverse.length))];
+      assertTrue(model.unjump(played[count]));
+      count += 1;
+      options = model.reverseMoves(reverse);
+    }
+    assertEquals(1 + count, model.getScore());
+    // playing the moves forwards again in the opposite order wins the game
+    int[] forward = new int[count];
+    for (int i = 0; i < count; i++) {
+      forward[i] = played[count - 1 - i];
+    }
+    assertEquals(count, model.applyMoves(forward, 0, count));
+    assertEquals(1, model.getScore());
+    assertEquals(MarbleSolitaireModelState.SlotState.Marble, model.getSlotAt(3, 3));
+  }
+
+  // testing that a board whose marbles are too far from the target can never reach it
+  @Test
+  public void testIsProvablyUnsolvable() {
+    EnglishSolitaireModel model = new EnglishSolitaireModel();
+    assertFalse(model.isProvablyUnsolvable(3, 3));
+    model.resetToSingleMarble(0, 4);
+    assertFalse(model.isProvablyUnsolvable(0, 4));
+    assertTrue(model.isProvablyUnsolvable(3, 3));
+    // two marbles in the top arm can only ever end up in the top arm
+    assertTrue(model.unjump(PackedMove.pack(0, 2, PackedMove.RIGHT, 7)));
+    assertFalse(model.isProvablyUnsolvable(0, 4));
+    // the only other jump would land on (0, 1), which is not on the board
+    assertTrue(model.isProvablyUnsolvable(0, 2));
+    assertTrue(model.isProvablyUnsolvable(3, 3));
+    assertTrue(model.isProvablyUnsolvable(6, 3));
+  }
+
+  // testing that the pagoda values kept up to date by every move match adding them up again
+  @Test
+  public void testIsProvablyUnsolvableAfterMoves() {
+    EnglishSolitaireModel model = new EnglishSolitaireModel();
+    assertFalse(model.isProvablyUnsolvable(3, 3));
+    SplittableRandom random = new SplittableRandom(11);
+    int[] played = new int[40];
+    int count = 0;
+    while (!model.isGameOver()) {
+      played[count] = model.randomLegalMove(random);
+      assertEquals(1, model.applyMoves(played, count, 1));
+      count += 1;
+    }
+    assertTrue(model.undo());
+    assertTrue(model.redo());
+    EnglishSolitaireModel fresh = new EnglishSolitaireModel();
+    fresh.applyMoves(played, 0, count);
+    for (int i = 0; i < 7; i++) {
+      for (int j = fresh.getRowStart(i); j < fresh.getRowEnd(i); j++) {
+        if (fresh.getSlotAt(i, j) != MarbleSolitaireModelState.SlotState.Invalid) {
+          assertEquals(fresh.isProvablyUnsolvable(i, j), model.isProvablyUnsolvable(i, j));
+        }
+      }
+    }
+  }
+
+  // testing for an exception when the target is not a valid slot
+  @Test(expected = IllegalArgumentException.class)
+  public void testIsProvablyUnsolvableInvalidTarget() {
+    new EnglishSolitaireModel().isProvablyUnsolvable(0, 0);
+  }
+
+  // testing that the position class of the board never changes as the game is played
+  @Test
+  public void testPositionClass() {
+    EnglishSolitaireModel model = new EnglishSolitaireModel();
+    assertEquals(16, model.positionClassCount());
+    int positionClass = model.positionClass();
+    // the rule of three only leaves the middle and the middle of the edge of each arm
+    assertTrue(model.isInTargetClass(3, 3));
+    assertTrue(model.isInTargetClass(0, 3));
+    assertTrue(model.isInTargetClass(3, 6));
+    assertFalse(model.isInTargetClass(3, 2));
+    assertFalse(model.isInTargetClass(2, 2));
+    assertTrue(model.isProvablyUnsolvable(3, 2));
+    model.move(3, 1, 3, 3);
+    model.move(5, 2, 3, 2);
+    assertEquals(positionClass, model.positionClass());
+    assertTrue(model.undo());
+    assertTrue(model.unjump(PackedMove.pack(3, 1, PackedMove.RIGHT, 7)));
+    assertEquals(positionClass, model.positionClass());
+    model.canonicalize();
+    assertTrue(model.isInTargetClass(3, 3));
+    model.resetToSingleMarble(2, 2);
+    assertNotEquals(positionClass, model.positionClass());
+    assertTrue(model.isInTargetClass(2, 2));
+    model.reset(3, 3);
+    assertEquals(positionClass, model.positionClass());
+  }
+
+  // testing for an exception when the target of the position class is not a valid slot
+  @Test(expected = IllegalArgumentException.class)
+  public void testIsInTargetClassInvalidTarget() {
+    new EnglishSolitaireModel().isInTargetClass(7, 3);
+  }
+
+  // testing that the number of legal moves kept up to date by every move, undo, and unjump
+  // always matches a search of the whole board and whether the game is over, over random games
+  // on the English board
+  @Test
+  public void testLegalMoveCountOverRandomGames() {
+    EnglishSolitaireModel model = new EnglishSolitaireModel();
+    int boardSize = model.getBoardSize();
+    SplittableRandom random = new SplittableRandom(11);
+    int[] moves = new int[400];
+    for (int step = 0; step < 3000; step++) {
+      int choice = random.nextInt(8);
+      if (choice == 0) {
+        model.undo();
+      } else if (choice == 1) {
+        int count = Math.min(model.reverseMoves(moves), moves.length);
+        if (count > 0) {
+          assertTrue(model.unjump(moves[random.nextInt(count)]));
+        }
+      } else {
+        int count = Math.min(model.legalMoves(moves), moves.length);
+        if (count == 0) {
+          model.reset(3, 3);
+        } else {
+          int move = moves[random.nextInt(count)];
+          assertEquals(MoveResult.OK, model.tryMove(PackedMove.fromRow(move, boardSize),
+                  PackedMove.fromCol(move, boardSize), PackedMove.toRow(move, boardSize),
+                  PackedMove.toCol(move, boardSize)));
+        }
+      }
+      assertEquals(model.legalMoves(new int[0]), model.legalMoveCount());
+      assertEquals(model.legalMoveCount() == 0, model.isGameOver());
+    }
+  }
 }
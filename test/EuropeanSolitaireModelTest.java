@@ -1,9 +1,13 @@
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.SplittableRandom;
+
 import model.EuropeanSolitaireModel;
 import model.MarbleSolitaireModel;
 import model.MarbleSolitaireModelState;
+import model.MoveResult;
+import model.PackedMove;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -622,4 +626,106 @@ public class EuropeanSolitaireModelTest {
     assertEquals(36, this.specifiedEmptySlot.getScore());
     assertEquals(128, this.specifiedEmptySlotAndArmLength5.getScore());
   }
-}
\ No newline at end of file
+
+  // testing that the span of every row covers exactly the slots in the octagon
+  @Test
+  public void testRowSpans() {
+    assertEquals(2, this.defaultConstructor.getRowStart(0));
+    assertEquals(5, this.defaultConstructor.getRowEnd(0));
+    assertEquals(1, this.defaultConstructor.getRowStart(5));
+    assertEquals(6, this.defaultConstructor.getRowEnd(5));
+    for (int i = 0; i < this.armLength7.getBoardSize(); i++) {
+      for (int j = 0; j < this.armLength7.getBoardSize(); j++) {
+        assertEquals(j < this.armLength7.getRowStart(i) || j >= this.armLength7.getRowEnd(i),
+                this.armLength7.getSlotAt(i, j) == MarbleSolitaireModelState.SlotState.Invalid);
+      }
+    }
+  }
+
+  // testing for an exception when the row of a span is out of bounds
+  @Test(expected = IllegalArgumentException.class)
+  public void testRowSpanOutOfBounds() {
+    this.defaultConstructor.getRowEnd(-1);
+  }
+
+  // testing that resetting a played board gives the same board as a new model
+  @Test
+  public void testReset() {
+    EuropeanSolitaireModel model = new EuropeanSolitaireModel();
+    model.move(3, 1, 3, 3);
+    model.reset(1, 1);
+    EuropeanSolitaireModel fresh = new EuropeanSolitaireModel(1, 1);
+    assertEquals(fresh.getScore(), model.getScore());
+    for (int i = 0; i < 7; i++) {
+      for (int j = 0; j < 7; j++) {
+        assertEquals(fresh.getSlotAt(i, j), model.getSlotAt(i, j));
+      }
+    }
+    assertEquals(2, model.legalMoves(new int[0]));
+  }
+
+  // testing that a copy is played separately from the original
+  @Test
+  public void testCopy() {
+    EuropeanSolitaireModel model = new EuropeanSolitaireModel();
+    EuropeanSolitaireModel copy = model.copy();
+    copy.move(3, 1, 3, 3);
+    assertEquals(35, copy.getScore());
+    assertEquals(36, model.getScore());
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty, model.getSlotAt(3, 3));
+  }
+
+  // testing that the game started from the middle can never end with a single marble anywhere
+  @Test
+  public void testMiddleStartInNoTargetClass() {
+    EuropeanSolitaireModel model = new EuropeanSolitaireModel();
+    assertEquals(16, model.positionClassCount());
+    for (int i = 0; i < 7; i++) {
+      for (int j = model.getRowStart(i); j < model.getRowEnd(i); j++) {
+        if (model.getSlotAt(i, j) != MarbleSolitaireModelState.SlotState.Invalid) {
+          assertFalse(model.isInTargetClass(i, j));
+          assertTrue(model.isProvablyUnsolvable(i, j));
+        }
+      }
+    }
+    // no game on this board can end in the slot it started with empty, but others can end
+    // elsewhere
+    model.reset(0, 2);
+    assertFalse(model.isInTargetClass(0, 2));
+    assertTrue(model.isInTargetClass(0, 4));
+  }
+
+  // testing that the number of legal moves kept up to date by every move, undo, and unjump
+  // always matches a search of the whole board and whether the game is over, over random games
+  // on the European board
+  @Test
+  public void testLegalMoveCountOverRandomGames() {
+    EuropeanSolitaireModel model = new EuropeanSolitaireModel();
+    int boardSize = model.getBoardSize();
+    SplittableRandom random = new SplittableRandom(12);
+    int[] moves = new int[400];
+    for (int step = 0; step < 3000; step++) {
+      int choice = random.nextInt(8);
+      if (choice == 0) {
+        model.undo();
+      } else if (choice == 1) {
+        int count = Math.min(model.reverseMoves(moves), moves.length);
+        if (count > 0) {
+          assertTrue(model.unjump(moves[random.nextInt(count)]));
+        }
+      } else {
+        int count = Math.min(model.legalMoves(moves), moves.length);
+        if (count == 0) {
+          model.reset(3, 3);
+        } else {
+          int move = moves[random.nextInt(count)];
+          assertEquals(MoveResult.OK, model.tryMove(PackedMove.fromRow(move, boardSize),
+                  PackedMove.fromCol(move, boardSize), PackedMove.toRow(move, boardSize),
+                  PackedMove.toCol(move, boardSize)));
+        }
+      }
+      assertEquals(model.legalMoves(new int[0]), model.legalMoveCount());
+      assertEquals(model.legalMoveCount() == 0, model.isGameOver());
+    }
+  }
+}
@@ -60,6 +60,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to" +
             " represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "    O O O\n" +
@@ -232,6 +233,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "    O O O\n" +
@@ -267,6 +269,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "    O O O\n" +
@@ -302,6 +305,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "    O O O\n" +
@@ -337,6 +341,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "    O O O\n" +
@@ -372,6 +377,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "    O O O\n" +
@@ -407,6 +413,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to" +
             " represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "    O O O\n" +
@@ -442,6 +449,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to" +
             " represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "    O O O\n" +
@@ -477,6 +485,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to" +
             " represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "    O O O\n" +
@@ -512,6 +521,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "    O O O\n" +
@@ -555,6 +565,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "    O O O\n" +
@@ -598,6 +609,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "    O O O\n" +
@@ -634,6 +646,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "    O O O\n" +
@@ -670,6 +683,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to" +
             " represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "    O O O\n" +
@@ -706,6 +720,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to" +
             " represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "    O O O\n" +
@@ -755,6 +770,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to" +
             " represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "    O O O\n" +
@@ -790,6 +806,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "    O O O\n" +
@@ -836,6 +853,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "    O O O\n" +
@@ -884,6 +902,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to represent the" +
             " second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "    O O O\n" +
@@ -1130,6 +1149,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "    O O O\n" +
@@ -1378,6 +1398,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "    O O O\n" +
@@ -1630,6 +1651,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "    O O O\n" +
@@ -1882,6 +1904,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "    O O O\n" +
@@ -2127,6 +2150,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "    O O O\n" +
@@ -2371,6 +2395,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "    O O O\n" +
@@ -2531,6 +2556,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "  O O O O O\n" +
@@ -2697,6 +2723,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "  O O O O O\n" +
@@ -2732,6 +2759,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "  O O O O O\n" +
@@ -2767,6 +2795,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "  O O O O O\n" +
@@ -2802,6 +2831,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "  O O O O O\n" +
@@ -2837,6 +2867,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "  O O O O O\n" +
@@ -2872,6 +2903,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "  O O O O O\n" +
@@ -2907,6 +2939,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "  O O O O O\n" +
@@ -2942,6 +2975,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "  O O O O O\n" +
@@ -2977,6 +3011,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "  O O O O O\n" +
@@ -3020,6 +3055,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "  O O O O O\n" +
@@ -3063,6 +3099,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "  O O O O O\n" +
@@ -3100,6 +3137,7 @@ public class MarbleSolitaireControllerImplTest {
             "The numbers should begin at 1 to represent the first row/column, 2 to" +
             " represent the" +
             " second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "  O O O O O\n" +
@@ -3136,6 +3174,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "  O O O O O\n" +
@@ -3172,6 +3211,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "  O O O O O\n" +
@@ -3221,6 +3261,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "  O O O O O\n" +
@@ -3256,6 +3297,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "  O O O O O\n" +
@@ -3307,6 +3349,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "  O O O O O\n" +
@@ -3571,6 +3614,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    O O O\n" +
             "  O O O O O\n" +
@@ -3860,6 +3904,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    _\n" +
             "   O O\n" +
@@ -4020,6 +4065,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    _\n" +
             "   O O\n" +
@@ -4051,6 +4097,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    _\n" +
             "   O O\n" +
@@ -4083,6 +4130,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    _\n" +
             "   O O\n" +
@@ -4115,6 +4163,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to" +
             " represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    _\n" +
             "   O O\n" +
@@ -4147,6 +4196,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    _\n" +
             "   O O\n" +
@@ -4179,6 +4229,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    _\n" +
             "   O O\n" +
@@ -4210,6 +4261,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    _\n" +
             "   O O\n" +
@@ -4241,6 +4293,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    _\n" +
             "   O O\n" +
@@ -4272,6 +4325,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    _\n" +
             "   O O\n" +
@@ -4309,6 +4363,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    _\n" +
             "   O O\n" +
@@ -4347,6 +4402,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to" +
             " represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    _\n" +
             "   O O\n" +
@@ -4380,6 +4436,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to" +
             " represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    _\n" +
             "   O O\n" +
@@ -4413,6 +4470,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    _\n" +
             "   O O\n" +
@@ -4445,6 +4503,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to" +
             " represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    _\n" +
             "   O O\n" +
@@ -4489,6 +4548,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    _\n" +
             "   O O\n" +
@@ -4520,6 +4580,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    _\n" +
             "   O O\n" +
@@ -4563,6 +4624,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to " +
             "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    _\n" +
             "   O O\n" +
@@ -4650,6 +4712,7 @@ public class MarbleSolitaireControllerImplTest {
             "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
             "The numbers should begin at 1 to represent the first row/column, 2 to" +
             " represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
             "Enter q at any moment to quit the game. Have fun!\n" +
             "    _\n" +
             "   O O\n" +
@@ -5054,21 +5117,74 @@ public class MarbleSolitaireControllerImplTest {
                     "Controller obtained the score from the model.\n",
             log.toString());
   }
-}
-
-
-
-
-
-
-
-
-
-
-
-
-
-
 
+  // testing that undo takes back a move and that there is nothing left to undo afterwards
+  @Test
+  public void testUndoEnglish() {
+    Appendable ap = new StringBuilder();
+    Readable rd = new StringReader("4 2 4 4 undo 1 UNDO q");
+    MarbleSolitaireView view = new MarbleSolitaireTextView(englishModel, ap);
+    MarbleSolitaireController c = new MarbleSolitaireControllerImpl(englishModel, view, rd);
+    c.playGame();
+    assertEquals("\nWelcome to Marble Solitaire!\n" +
+            "In order to move, enter 4 numbers with a space or return between them that " +
+            "represent the following:\n" +
+            "1. fromRow  2. fromColumn  3. toRow  4. toColumn.\n" +
+            "The numbers should begin at 1 to represent the first row/column, 2 to " +
+            "represent the second row/column, and so on.\n" +
+            "Enter undo to take back your last move.\n" +
+            "Enter q at any moment to quit the game. Have fun!\n" +
+            "    O O O\n" +
+            "    O O O\n" +
+            "O O O O O O O\n" +
+            "O O O _ O O O\n" +
+            "O O O O O O O\n" +
+            "    O O O\n" +
+            "    O O O\n" +
+            "Score: 32\n" +
+            "    O O O\n" +
+            "    O O O\n" +
+            "O O O O O O O\n" +
+            "O _ _ O O O O\n" +
+            "O O O O O O O\n" +
+            "    O O O\n" +
+            "    O O O\n" +
+            "Score: 31\n" +
+            "    O O O\n" +
+            "    O O O\n" +
+            "O O O O O O O\n" +
+            "O O O _ O O O\n" +
+            "O O O O O O O\n" +
+            "    O O O\n" +
+            "    O O O\n" +
+            "Score: 32\n" +
+            "There is no move to undo.\n" +
+            "Game quit!\n" +
+            "State of game when quit:\n" +
+            "    O O O\n" +
+            "    O O O\n" +
+            "O O O O O O O\n" +
+            "O O O _ O O O\n" +
+            "O O O O O O O\n" +
+            "    O O O\n" +
+            "    O O O\n" +
+            "Score: 32\n", ap.toString());
+  }
 
+  // testing that the controller passes an undo on to the model
+  @Test
+  public void testControllerPassingUndoToModel() {
+    Readable in = new StringReader("undo q");
+    StringBuilder log = new StringBuilder();
+    MarbleSolitaireModel mock = new ConfirmInputsMock(log);
+    MarbleSolitaireController controller = new MarbleSolitaireControllerImpl(mock, englishView, in);
 
+    controller.playGame();
+    assertEquals("Controller obtained the score from the model.\n" +
+                    "Controller asked if the game is over.\n" +
+                    "Controller asked to undo the last move.\n" +
+                    "Controller asked if the game is over.\n" +
+                    "Controller obtained the score from the model.\n",
+            log.toString());
+  }
+}
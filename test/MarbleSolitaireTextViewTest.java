@@ -2,16 +2,23 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 
 import helpers.CorruptAppendable;
+import model.ConcurrentSolitaireModel;
 import model.EnglishSolitaireModel;
 import model.EuropeanSolitaireModel;
 import model.MarbleSolitaireModel;
 import model.MarbleSolitaireModelState;
+import model.MoveListener;
+import model.PackedMove;
 import view.MarbleSolitaireTextView;
 import view.MarbleSolitaireView;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /**
  * A JUnit test class for {@link MarbleSolitaireTextView}s.
@@ -629,8 +636,154 @@ public class MarbleSolitaireTextViewTest {
             badEuropeanAppendable);
     view.renderMessage("hi");
   }
-}
-
-
 
+  // testing that a snapshot renders the board as it was when it was taken, even after more moves
+  @Test
+  public void testRenderSnapshot() {
+    EnglishSolitaireModel model = new EnglishSolitaireModel();
+    model.move(3, 1, 3, 3);
+    MarbleSolitaireModelState snapshot = model.snapshot();
+    String before = new MarbleSolitaireTextView(model).toString();
+    model.move(5, 2, 3, 2);
+    assertEquals(before, new MarbleSolitaireTextView(snapshot).toString());
+    assertEquals(31, snapshot.getScore());
+    assertEquals("    O O O\n"
+            + "    O O O\n"
+            + "O O O O O O O\n"
+            + "O _ O O O O O\n"
+            + "O O _ O O O O\n"
+            + "    _ O O\n"
+            + "    O O O", new MarbleSolitaireTextView(model.snapshot()).toString());
+  }
 
+  // testing that snapshots rendered on another thread always show a whole board
+  @Test
+  public void testRenderSnapshotsOnAnotherThread() throws InterruptedException {
+    EnglishSolitaireModel model = new EnglishSolitaireModel(5);
+    BlockingQueue<MarbleSolitaireModelState> snapshots = new LinkedBlockingQueue<>();
+    // a model that is never snapshotted tells the reader that the game is over
+    MarbleSolitaireModelState done = new EnglishSolitaireModel();
+    int[] rendered = new int[2];
+    Thread reader = new Thread(() -> {
+      try {
+        for (MarbleSolitaireModelState snapshot = snapshots.take(); snapshot != done;
+             snapshot = snapshots.take()) {
+          String board = new MarbleSolitaireTextView(snapshot).toString();
+          rendered[0] += 1;
+          if (board.chars().filter(c -> c == 'O').count() == snapshot.getScore()) {
+            rendered[1] += 1;
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    reader.start();
+    int[] moves = new int[100];
+    int count = 0;
+    while (!model.isGameOver()) {
+      snapshots.add(model.snapshot());
+      count += 1;
+      model.legalMoves(moves);
+      model.move(PackedMove.fromRow(moves[0], 13), PackedMove.fromCol(moves[0], 13),
+              PackedMove.toRow(moves[0], 13), PackedMove.toCol(moves[0], 13));
+    }
+    snapshots.add(done);
+    reader.join();
+    assertEquals(count, rendered[0]);
+    assertEquals(count, rendered[1]);
+  }
+
+  // testing that a view which only draws the rows changed by each move shows the same board as
+  // a new view after moves, undos, and resets
+  @Test
+  public void testRenderAfterChanges() {
+    EnglishSolitaireModel model = new EnglishSolitaireModel();
+    MarbleSolitaireTextView view = new MarbleSolitaireTextView(model);
+    assertTrue(view.followModel());
+    assertEquals(new MarbleSolitaireTextView(model).toString(), view.toString());
+    model.move(3, 1, 3, 3);
+    model.move(1, 2, 3, 2);
+    assertEquals(new MarbleSolitaireTextView(model.snapshot()).toString(), view.toString());
+    model.undo();
+    assertEquals(new MarbleSolitaireTextView(model.snapshot()).toString(), view.toString());
+    model.reset(2, 3);
+    assertEquals(new MarbleSolitaireTextView(new EnglishSolitaireModel(2, 3)).toString(),
+            view.toString());
+    model.canonicalize();
+    assertEquals(new MarbleSolitaireTextView(model.snapshot()).toString(), view.toString());
+  }
+
+  // testing that a view is only registered with its model while it follows it, and still draws
+  // the board correctly afterwards
+  @Test
+  public void testDetach() {
+    int[] registered = new int[1];
+    EnglishSolitaireModel model = new EnglishSolitaireModel() {
+      @Override
+      public boolean addMoveListener(MoveListener listener) {
+        registered[0] += 1;
+        return super.addMoveListener(listener);
+      }
+
+      @Override
+      public boolean removeMoveListener(MoveListener listener) {
+        boolean removed = super.removeMoveListener(listener);
+        if (removed) {
+          registered[0] -= 1;
+        }
+        return removed;
+      }
+    };
+    MarbleSolitaireView view = new MarbleSolitaireTextView(model);
+    // a view that is only constructed does not register with its model
+    assertEquals(0, registered[0]);
+    assertTrue(view.followModel());
+    assertTrue(view.followModel());
+    assertEquals(1, registered[0]);
+    // drawing the board does not register the view again
+    view.toString();
+    view.toString();
+    assertEquals(1, registered[0]);
+    view.detach();
+    view.detach();
+    assertEquals(0, registered[0]);
+    model.move(3, 1, 3, 3);
+    assertEquals(new MarbleSolitaireTextView(model.snapshot()).toString(), view.toString());
+
+    // a snapshot does not tell listeners about its changes, so a view cannot follow it
+    assertFalse(new MarbleSolitaireTextView(model.snapshot()).followModel());
+  }
+
+  // testing that a view of a model shared between threads does not keep a row that was drawn
+  // while a move was being made on another thread
+  @Test
+  public void testRenderWhileMovingOnAnotherThread() {
+    MarbleSolitaireModel[] shared = new MarbleSolitaireModel[1];
+    boolean[] moved = new boolean[1];
+    EnglishSolitaireModel wrapped = new EnglishSolitaireModel() {
+      @Override
+      public SlotState getSlotAt(int row, int col) {
+        if (row == 3 && col == 5 && !moved[0]) {
+          // the first half of the middle row has been read, so making a move on another
+          // thread now leaves the view with a row drawn from two different boards
+          moved[0] = true;
+          Thread player = new Thread(() -> shared[0].move(3, 1, 3, 3));
+          player.start();
+          try {
+            player.join();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }
+        return super.getSlotAt(row, col);
+      }
+    };
+    shared[0] = new ConcurrentSolitaireModel(wrapped);
+    MarbleSolitaireView view = new MarbleSolitaireTextView(shared[0]);
+    assertTrue(view.followModel());
+    view.toString();
+    assertEquals(new MarbleSolitaireTextView(wrapped.snapshot()).toString(), view.toString());
+    view.detach();
+  }
+}
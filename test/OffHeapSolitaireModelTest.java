@@ -0,0 +1,147 @@
+import org.junit.Test;
+
+import java.util.Random;
+
+import model.EnglishSolitaireModel;
+import model.MarbleSolitaireModel;
+import model.MarbleSolitaireModelState;
+import model.OffHeapEnglishSolitaireModel;
+import model.OffHeapSolitaireModel;
+import model.OffHeapTriangleSolitaireModel;
+import model.TriangleSolitaireModel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A JUnit test class for {@link OffHeapSolitaireModel}s.
+ */
+public class OffHeapSolitaireModelTest {
+
+  /**
+   * Plays the same random game on both models, checking after every move that both models agree
+   * on whether the move is valid, every slot, the score, and whether the game is over.
+   *
+   * @param model   the model the game is played on
+   * @param offHeap an off heap model with the same starting board as the first one
+   * @param seed    the seed of the random moves
+   */
+  private void playSameRandomGame(MarbleSolitaireModel model, OffHeapSolitaireModel offHeap,
+                                  long seed) {
+    Random random = new Random(seed);
+    int size = model.getBoardSize();
+    int[][] jumps = {{0, 2}, {0, -2}, {2, 0}, {-2, 0}, {2, 2}, {-2, -2}};
+
+    while (!model.isGameOver()) {
+      assertFalse(offHeap.isGameOver());
+      boolean moved = false;
+      while (!moved) {
+        int row = random.nextInt(size);
+        int col = random.nextInt(size);
+        int[] jump = jumps[random.nextInt(jumps.length)];
+        moved = this.tryMove(model, row, col, row + jump[0], col + jump[1]);
+        assertEquals(moved, this.tryMove(offHeap, row, col, row + jump[0], col + jump[1]));
+      }
+      assertEquals(model.getScore(), offHeap.getScore());
+      for (int i = 0; i < size; i++) {
+        for (int j = 0; j < size; j++) {
+          assertEquals(model.getSlotAt(i, j), offHeap.getSlotAt(i, j));
+        }
+      }
+    }
+    assertTrue(offHeap.isGameOver());
+    offHeap.close();
+  }
+
+  /**
+   * Attempts the specified move on the model.
+   *
+   * @param model   the model the move is made on
+   * @param fromRow the row of the from slot in the move
+   * @param fromCol the column of the from slot in the move
+   * @param toRow   the row of the to slot in the move
+   * @param toCol   the column of the to slot in the move
+   * @return true if the move was made, false if the model rejected it
+   */
+  private boolean tryMove(MarbleSolitaireModel model, int fromRow, int fromCol, int toRow,
+                          int toCol) {
+    try {
+      model.move(fromRow, fromCol, toRow, toCol);
+      return true;
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  // testing that an english board plays out the same as the original model
+  @Test
+  public void testSameGameAsEnglishSolitaireModel() {
+    this.playSameRandomGame(new EnglishSolitaireModel(5, 6, 2),
+            new OffHeapEnglishSolitaireModel(5, 6, 2), 1);
+  }
+
+  // testing that a triangle board plays out the same as the original model
+  @Test
+  public void testSameGameAsTriangleSolitaireModel() {
+    this.playSameRandomGame(new TriangleSolitaireModel(9, 4, 2),
+            new OffHeapTriangleSolitaireModel(9, 4, 2), 2);
+  }
+
+  // testing the properties of a large english board
+  @Test
+  public void testLargeEnglishBoard() {
+    OffHeapSolitaireModel model = new OffHeapEnglishSolitaireModel(1001);
+    assertEquals(3001, model.getBoardSize());
+    assertEquals(5 * 1001 * 1001 - 4 * 1001 - 1, model.getScore());
+    assertEquals(5 * 1001 * 1001 - 4 * 1001 - 1, model.getMarbleCount());
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty, model.getSlotAt(1500, 1500));
+    assertEquals(MarbleSolitaireModelState.SlotState.Invalid, model.getSlotAt(0, 0));
+    assertEquals(MarbleSolitaireModelState.SlotState.Marble, model.getSlotAt(3000, 1500));
+    model.move(1500, 1502, 1500, 1500);
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty, model.getSlotAt(1500, 1502));
+    assertFalse(model.isGameOver());
+    model.close();
+  }
+
+  // testing that the models start with the correct marbles
+  @Test
+  public void testValidConstruction() {
+    OffHeapSolitaireModel english = new OffHeapEnglishSolitaireModel(3);
+    assertEquals(32, english.getScore());
+    assertEquals(7, english.getBoardSize());
+    OffHeapSolitaireModel triangle = new OffHeapTriangleSolitaireModel(5);
+    assertEquals(14, triangle.getScore());
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty, triangle.getSlotAt(0, 0));
+    assertEquals(MarbleSolitaireModelState.SlotState.Invalid, triangle.getSlotAt(0, 4));
+  }
+
+  // testing for an exception when the arm thickness is even
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidArmThickness() {
+    new OffHeapEnglishSolitaireModel(4);
+  }
+
+  // testing for an exception when the empty slot is not in the triangle
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidEmptySlot() {
+    new OffHeapTriangleSolitaireModel(5, 1, 3);
+  }
+
+  // testing for an exception when a closed model is used
+  @Test(expected = IllegalStateException.class)
+  public void testUseAfterClose() {
+    OffHeapSolitaireModel model = new OffHeapEnglishSolitaireModel(3);
+    model.close();
+    model.getSlotAt(3, 3);
+  }
+
+  // testing for an exception when a move is made on a closed model
+  @Test(expected = IllegalStateException.class)
+  public void testMoveAfterClose() {
+    OffHeapSolitaireModel model = new OffHeapTriangleSolitaireModel(5);
+    model.close();
+    model.close();
+    model.move(2, 0, 0, 0);
+  }
+}
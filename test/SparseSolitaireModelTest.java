@@ -0,0 +1,185 @@
+import org.junit.Test;
+
+import java.util.Random;
+
+import model.EnglishSolitaireModel;
+import model.EuropeanSolitaireModel;
+import model.MarbleSolitaireModel;
+import model.MarbleSolitaireModelState;
+import model.PackedMove;
+import model.SparseEnglishSolitaireModel;
+import model.SparseEuropeanSolitaireModel;
+import model.SparseSolitaireModel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A JUnit test class for {@link SparseSolitaireModel}s.
+ */
+public class SparseSolitaireModelTest {
+
+  /**
+   * Plays the same random game on both models, checking after every move that both models agree
+   * on whether the move is valid, every slot, the score, and whether the game is over.
+   *
+   * @param model  the model the game is played on
+   * @param sparse a sparse model with the same starting board as the first one
+   * @param seed   the seed of the random moves
+   */
+  private void playSameRandomGame(MarbleSolitaireModel model, SparseSolitaireModel sparse,
+                                  long seed) {
+    Random random = new Random(seed);
+    int size = model.getBoardSize();
+    int[][] jumps = {{0, 2}, {0, -2}, {2, 0}, {-2, 0}};
+
+    while (!model.isGameOver()) {
+      assertFalse(sparse.isGameOver());
+      boolean moved = false;
+      while (!moved) {
+        int row = random.nextInt(size);
+        int col = random.nextInt(size);
+        int[] jump = jumps[random.nextInt(jumps.length)];
+        moved = this.tryMove(model, row, col, row + jump[0], col + jump[1]);
+        assertEquals(moved, this.tryMove(sparse, row, col, row + jump[0], col + jump[1]));
+      }
+      assertEquals(model.getScore(), sparse.getScore());
+      for (int i = 0; i < size; i++) {
+        for (int j = 0; j < size; j++) {
+          assertEquals(model.getSlotAt(i, j), sparse.getSlotAt(i, j));
+        }
+      }
+    }
+    assertTrue(sparse.isGameOver());
+  }
+
+  /**
+   * Attempts the specified move on the model.
+   *
+   * @param model   the model the move is made on
+   * @param fromRow the row of the from slot in the move
+   * @param fromCol the column of the from slot in the move
+   * @param toRow   the row of the to slot in the move
+   * @param toCol   the column of the to slot in the move
+   * @return true if the move was made, false if the model rejected it
+   */
+  private boolean tryMove(MarbleSolitaireModel model, int fromRow, int fromCol, int toRow,
+                          int toCol) {
+    try {
+      model.move(fromRow, fromCol, toRow, toCol);
+      return true;
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  // testing that an english board plays out the same as the original model
+  @Test
+  public void testSameGameAsEnglishSolitaireModel() {
+    this.playSameRandomGame(new EnglishSolitaireModel(5, 6, 2),
+            new SparseEnglishSolitaireModel(5, 6, 2), 1);
+  }
+
+  // testing that a european board plays out the same as the original model
+  @Test
+  public void testSameGameAsEuropeanSolitaireModel() {
+    this.playSameRandomGame(new EuropeanSolitaireModel(5, 1, 4),
+            new SparseEuropeanSolitaireModel(5, 1, 4), 2);
+  }
+
+  // testing that the models start with the correct marbles
+  @Test
+  public void testValidConstruction() {
+    SparseSolitaireModel english = new SparseEnglishSolitaireModel(3);
+    assertEquals(32, english.getScore());
+    assertEquals(7, english.getBoardSize());
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty, english.getSlotAt(3, 3));
+    assertEquals(MarbleSolitaireModelState.SlotState.Invalid, english.getSlotAt(0, 0));
+    SparseSolitaireModel european = new SparseEuropeanSolitaireModel(3);
+    assertEquals(new EuropeanSolitaireModel(3).getScore(), european.getScore());
+    assertEquals(MarbleSolitaireModelState.SlotState.Marble, european.getSlotAt(1, 1));
+    assertEquals(0, european.getChangedSlotCount());
+  }
+
+  // testing that a board far too large to build is created and played right away
+  @Test
+  public void testHugeBoard() {
+    SparseSolitaireModel model = new SparseEuropeanSolitaireModel(1000001);
+    long arm = 1000001;
+    long size = 3 * arm - 2;
+    assertEquals(3000001, model.getBoardSize());
+    assertEquals(size * size - 2 * arm * (arm - 1) - 1, model.getMarbleCount());
+    assertEquals(Integer.MAX_VALUE, model.getScore());
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty, model.getSlotAt(1500000, 1500000));
+    assertEquals(MarbleSolitaireModelState.SlotState.Invalid, model.getSlotAt(0, 0));
+    model.move(1500000, 1500002, 1500000, 1500000);
+    model.move(1500002, 1500001, 1500000, 1500001);
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty, model.getSlotAt(1500002, 1500001));
+    assertEquals(MarbleSolitaireModelState.SlotState.Marble, model.getSlotAt(1500000, 1500001));
+    assertEquals(size * size - 2 * arm * (arm - 1) - 3, model.getMarbleCount());
+    assertEquals(5, model.getChangedSlotCount());
+    assertFalse(model.isGameOver());
+  }
+
+  // testing for an exception when the arm thickness is even
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidArmThickness() {
+    new SparseEnglishSolitaireModel(4);
+  }
+
+  // testing for an exception when the empty slot is not in the octagon
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidEmptySlot() {
+    new SparseEuropeanSolitaireModel(3, 0, 0);
+  }
+
+  // testing for an exception when a move jumps over an empty slot
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidMove() {
+    SparseSolitaireModel model = new SparseEnglishSolitaireModel(3);
+    model.move(3, 5, 3, 3);
+    model.move(3, 6, 3, 4);
+  }
+
+  // testing that the sparse model gives the same result as the european model for every move
+  // tried during a random game
+  @Test
+  public void testTryMoveResultsMatch() {
+    MarbleSolitaireModel european = new EuropeanSolitaireModel();
+    SparseSolitaireModel sparse = new SparseEuropeanSolitaireModel(3);
+    Random random = new Random(7);
+    for (int i = 0; i < 5000; i++) {
+      int fromRow = random.nextInt(9) - 1;
+      int fromCol = random.nextInt(9) - 1;
+      int toRow = fromRow + random.nextInt(5) - 2;
+      int toCol = fromCol + random.nextInt(5) - 2;
+      assertEquals(european.tryMove(fromRow, fromCol, toRow, toCol),
+              sparse.tryMove(fromRow, fromCol, toRow, toCol));
+      assertEquals(european.getScore(), sparse.getScore());
+    }
+  }
+
+  // testing that the sparse model lists the same legal moves as the european model
+  @Test
+  public void testLegalMovesMatch() {
+    MarbleSolitaireModel european = new EuropeanSolitaireModel(5, 1, 4);
+    SparseSolitaireModel sparse = new SparseEuropeanSolitaireModel(5, 1, 4);
+    int[] moves = new int[1000];
+    int[] sparseMoves = new int[1000];
+    int count = european.legalMoves(moves);
+    while (count > 0) {
+      assertEquals(count, sparse.legalMoves(sparseMoves));
+      for (int i = 0; i < count; i++) {
+        assertEquals(moves[i], sparseMoves[i]);
+      }
+      int move = moves[count / 2];
+      european.move(PackedMove.fromRow(move, 13), PackedMove.fromCol(move, 13),
+              PackedMove.toRow(move, 13), PackedMove.toCol(move, 13));
+      sparse.move(PackedMove.fromRow(move, 13), PackedMove.fromCol(move, 13),
+              PackedMove.toRow(move, 13), PackedMove.toCol(move, 13));
+      count = european.legalMoves(moves);
+    }
+    assertTrue(sparse.isGameOver());
+  }
+}
@@ -1,8 +1,12 @@
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.SplittableRandom;
+
 import model.MarbleSolitaireModel;
 import model.MarbleSolitaireModelState;
+import model.MoveResult;
+import model.PackedMove;
 import model.TriangleSolitaireModel;
 
 import static org.junit.Assert.assertFalse;
@@ -95,6 +99,12 @@ public class TriangleSolitaireModelTest {
     MarbleSolitaireModel model = new TriangleSolitaireModel(-10);
   }
 
+  // testing for an exception when a model is made with more slots than an array can hold
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidConstructionWithTooManySlots() {
+    MarbleSolitaireModel model = new TriangleSolitaireModel(65536);
+  }
+
   // testing the properties of a model with the specified empty spot constructor
   @Test
   public void testValidConstructionWithSpecifiedEmptySlotConstructor() {
@@ -638,4 +648,261 @@ public class TriangleSolitaireModelTest {
     assertEquals(20, this.specifiedEmptySlotAndArmLength6.getScore());
   }
 
-}
\ No newline at end of file
+  // testing the slots and moves of a large triangle board, whose rows are stored packed one
+  // after another
+  @Test
+  public void testLargeTriangleBoard() {
+    MarbleSolitaireModel model = new TriangleSolitaireModel(2000, 1999, 1999);
+    assertEquals(2000 * 2001 / 2 - 1, model.getScore());
+    assertEquals(MarbleSolitaireModelState.SlotState.Invalid, model.getSlotAt(0, 1999));
+    assertEquals(MarbleSolitaireModelState.SlotState.Invalid, model.getSlotAt(1998, 1999));
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty, model.getSlotAt(1999, 1999));
+    assertEquals(MarbleSolitaireModelState.SlotState.Marble, model.getSlotAt(1999, 0));
+    model.move(1997, 1997, 1999, 1999);
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty, model.getSlotAt(1997, 1997));
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty, model.getSlotAt(1998, 1998));
+    assertEquals(MarbleSolitaireModelState.SlotState.Marble, model.getSlotAt(1999, 1999));
+    assertFalse(model.isGameOver());
+  }
+
+  // testing for an exception when a move starts outside of the triangle
+  @Test(expected = IllegalArgumentException.class)
+  public void testMoveFromOutsideTriangle() {
+    this.defaultConstructor.move(0, 2, 2, 2);
+  }
+
+  // testing that the span of every row covers exactly the slots in the triangle
+  @Test
+  public void testRowSpans() {
+    for (int i = 0; i < this.armLength7.getBoardSize(); i++) {
+      assertEquals(0, this.armLength7.getRowStart(i));
+      assertEquals(i + 1, this.armLength7.getRowEnd(i));
+    }
+  }
+
+  // testing the result of trying diagonal moves on a triangle board
+  @Test
+  public void testTryMoveDiagonal() {
+    assertEquals(MoveResult.NOT_A_JUMP, this.defaultConstructor.tryMove(2, 0, 0, 2));
+    assertEquals(MoveResult.NOT_A_JUMP, this.defaultConstructor.tryMove(0, 2, 2, 0));
+    assertEquals(MoveResult.OK, this.defaultConstructor.tryMove(2, 2, 0, 0));
+    assertEquals(MoveResult.NO_MARBLE, this.defaultConstructor.tryMove(2, 2, 0, 0));
+    assertEquals(MoveResult.OCCUPIED_TARGET, this.defaultConstructor.tryMove(2, 0, 0, 0));
+    assertEquals(13, this.defaultConstructor.getScore());
+  }
+
+  // testing that the legal moves of a triangle board include the diagonal jumps
+  @Test
+  public void testLegalMoves() {
+    int[] moves = new int[4];
+    assertEquals(2, this.defaultConstructor.legalMoves(moves));
+    assertEquals(PackedMove.pack(2, 0, PackedMove.UP, 5), moves[0]);
+    assertEquals(PackedMove.pack(2, 2, PackedMove.UP_LEFT, 5), moves[1]);
+    assertEquals(MoveResult.OK, this.defaultConstructor.tryMove(PackedMove.fromRow(moves[1], 5),
+            PackedMove.fromCol(moves[1], 5), PackedMove.toRow(moves[1], 5),
+            PackedMove.toCol(moves[1], 5)));
+    assertEquals(MarbleSolitaireModelState.SlotState.Marble,
+            this.defaultConstructor.getSlotAt(0, 0));
+  }
+
+  // testing that a diagonal move is undone and redone on a triangle board
+  @Test
+  public void testUndoDiagonalMove() {
+    this.defaultConstructor.move(2, 2, 0, 0);
+    assertTrue(this.defaultConstructor.undo());
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty,
+            this.defaultConstructor.getSlotAt(0, 0));
+    assertEquals(MarbleSolitaireModelState.SlotState.Marble,
+            this.defaultConstructor.getSlotAt(1, 1));
+    assertEquals(14, this.defaultConstructor.getScore());
+    assertTrue(this.defaultConstructor.redo());
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty,
+            this.defaultConstructor.getSlotAt(2, 2));
+    assertEquals(13, this.defaultConstructor.getScore());
+  }
+
+  // testing that resetting and copying a triangle board keep the diagonal moves
+  @Test
+  public void testResetAndCopy() {
+    TriangleSolitaireModel model = new TriangleSolitaireModel(6);
+    model.move(2, 2, 0, 0);
+    TriangleSolitaireModel copy = model.copy();
+    model.reset(4, 2);
+    TriangleSolitaireModel fresh = new TriangleSolitaireModel(6, 4, 2);
+    for (int i = 0; i < 6; i++) {
+      for (int j = 0; j < 6; j++) {
+        assertEquals(fresh.getSlotAt(i, j), model.getSlotAt(i, j));
+      }
+    }
+    assertEquals(fresh.legalMoves(new int[0]), model.legalMoves(new int[0]));
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty, copy.getSlotAt(1, 1));
+    assertEquals(19, copy.getScore());
+  }
+
+  // testing that the three corners of a triangle board have the same canonical form
+  @Test
+  public void testCanonicalizeCorners() {
+    TriangleSolitaireModel top = new TriangleSolitaireModel(5, 0, 0);
+    TriangleSolitaireModel left = new TriangleSolitaireModel(5, 4, 0);
+    TriangleSolitaireModel right = new TriangleSolitaireModel(5, 4, 4);
+    assertEquals(6, top.symmetryCount());
+    assertEquals(0, top.canonicalTransform());
+    left.canonicalize();
+    right.canonicalize();
+    assertEquals(top, left);
+    assertEquals(top, right);
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty, right.getSlotAt(0, 0));
+    TriangleSolitaireModel middle = new TriangleSolitaireModel(5, 2, 1);
+    middle.canonicalize();
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty, middle.getSlotAt(2, 1));
+  }
+
+  // testing that diagonal moves keep being diagonal moves under every symmetry of the triangle
+  @Test
+  public void testTransformMoveTriangle() {
+    TriangleSolitaireModel model = new TriangleSolitaireModel(5);
+    assertEquals(2, model.inverseTransform(1));
+    assertEquals(3, model.inverseTransform(3));
+    int move = PackedMove.pack(0, 0, PackedMove.DOWN_RIGHT, 5);
+    // the rotation moves the top corner to the bottom left corner
+    assertEquals(PackedMove.pack(4, 0, PackedMove.UP, 5), model.transformMove(move, 1));
+    for (int t = 0; t < 6; t++) {
+      int moved = model.transformMove(move, t);
+      TriangleSolitaireModel image = new TriangleSolitaireModel(5, PackedMove.toRow(moved, 5),
+              PackedMove.toCol(moved, 5));
+      assertEquals(MoveResult.OK, image.tryMove(PackedMove.fromRow(moved, 5),
+              PackedMove.fromCol(moved, 5), PackedMove.toRow(moved, 5),
+              PackedMove.toCol(moved, 5)));
+      assertEquals(move, model.transformMove(moved, model.inverseTransform(t)));
+    }
+  }
+
+  // testing that the bulk reads of a triangle board and of its snapshot fill in the slots to the
+  // right of the triangle as invalid
+  @Test
+  public void testCopyBoard() {
+    TriangleSolitaireModel model = new TriangleSolitaireModel();
+    model.move(2, 0, 0, 0);
+    MarbleSolitaireModelState snapshot = model.snapshot();
+    model.move(2, 2, 2, 0);
+    byte[] board = new byte[25];
+    byte[] snapshotBoard = new byte[25];
+    long[] occupancy = new long[1];
+    model.copyBoard(board);
+    snapshot.copyBoard(snapshotBoard);
+    model.copyOccupancy(occupancy);
+    for (int i = 0; i < 5; i++) {
+      for (int j = 0; j < 5; j++) {
+        assertEquals(model.getSlotAt(i, j).ordinal(), board[i * 5 + j]);
+        assertEquals(snapshot.getSlotAt(i, j).ordinal(), snapshotBoard[i * 5 + j]);
+      }
+    }
+    assertEquals(MarbleSolitaireModelState.SlotState.Invalid.ordinal(), board[3]);
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty.ordinal(), board[2 * 5 + 2]);
+    assertEquals(MarbleSolitaireModelState.SlotState.Marble.ordinal(), snapshotBoard[2 * 5 + 2]);
+    assertEquals(12, Long.bitCount(occupancy[0]));
+  }
+
+  // testing that a random move is picked from every legal move, including the diagonal ones
+  @Test
+  public void testRandomLegalMove() {
+    TriangleSolitaireModel model = new TriangleSolitaireModel(5, 2, 2);
+    SplittableRandom random = new SplittableRandom(1);
+    boolean[] picked = new boolean[1 << 10];
+    for (int i = 0; i < 200; i++) {
+      picked[model.randomLegalMove(random)] = true;
+    }
+    int[] moves = new int[10];
+    int count = model.legalMoves(moves);
+    assertEquals(4, count);
+    for (int i = 0; i < count; i++) {
+      assertTrue(picked[moves[i]]);
+    }
+    model.move(0, 0, 2, 2);
+    assertEquals(model.legalMoves(moves), model.unorderedLegalMoves(new int[10]));
+  }
+
+  // testing that diagonal moves can be played backwards on a triangle board
+  @Test
+  public void testUnjumpDiagonal() {
+    TriangleSolitaireModel model = new TriangleSolitaireModel();
+    model.resetToSingleMarble(2, 2);
+    int[] moves = new int[10];
+    assertEquals(4, model.reverseMoves(moves));
+    assertEquals(PackedMove.pack(0, 0, PackedMove.DOWN_RIGHT, 5), moves[0]);
+    assertEquals(PackedMove.pack(2, 0, PackedMove.RIGHT, 5), moves[1]);
+    assertEquals(PackedMove.pack(4, 2, PackedMove.UP, 5), moves[2]);
+    assertEquals(PackedMove.pack(4, 4, PackedMove.UP_LEFT, 5), moves[3]);
+    assertTrue(model.unjump(moves[0]));
+    assertEquals(MarbleSolitaireModelState.SlotState.Marble, model.getSlotAt(0, 0));
+    assertEquals(MarbleSolitaireModelState.SlotState.Marble, model.getSlotAt(1, 1));
+    assertEquals(MarbleSolitaireModelState.SlotState.Empty, model.getSlotAt(2, 2));
+    assertFalse(model.unjump(moves[0]));
+    assertEquals(2, model.getScore());
+    model.move(0, 0, 2, 2);
+    assertEquals(1, model.getScore());
+  }
+
+  // testing that marbles in one corner of the triangle can never reach the other corners
+  @Test
+  public void testIsProvablyUnsolvable() {
+    TriangleSolitaireModel model = new TriangleSolitaireModel();
+    assertFalse(model.isProvablyUnsolvable(0, 0));
+    model.resetToSingleMarble(4, 4);
+    assertTrue(model.unjump(PackedMove.pack(4, 2, PackedMove.RIGHT, 5)));
+    assertFalse(model.isProvablyUnsolvable(4, 4));
+    assertTrue(model.isProvablyUnsolvable(0, 0));
+    assertTrue(model.isProvablyUnsolvable(4, 0));
+    model.move(4, 2, 4, 4);
+    assertTrue(model.isProvablyUnsolvable(4, 2));
+    assertFalse(model.isProvablyUnsolvable(4, 4));
+  }
+
+  // testing the position classes of the triangle board, which only has one form
+  @Test
+  public void testPositionClass() {
+    TriangleSolitaireModel model = new TriangleSolitaireModel();
+    assertEquals(4, model.positionClassCount());
+    int positionClass = model.positionClass();
+    assertTrue(model.isInTargetClass(0, 0));
+    assertFalse(model.isInTargetClass(1, 0));
+    model.move(2, 0, 0, 0);
+    model.move(2, 2, 2, 0);
+    assertEquals(positionClass, model.positionClass());
+    assertTrue(model.isInTargetClass(3, 0));
+  }
+
+  // testing that the number of legal moves kept up to date by every move, undo, and unjump
+  // always matches a search of the whole board and whether the game is over, over random games
+  // on the triangle board
+  @Test
+  public void testLegalMoveCountOverRandomGames() {
+    TriangleSolitaireModel model = new TriangleSolitaireModel(6);
+    int boardSize = model.getBoardSize();
+    SplittableRandom random = new SplittableRandom(13);
+    int[] moves = new int[400];
+    for (int step = 0; step < 3000; step++) {
+      int choice = random.nextInt(8);
+      if (choice == 0) {
+        model.undo();
+      } else if (choice == 1) {
+        int count = Math.min(model.reverseMoves(moves), moves.length);
+        if (count > 0) {
+          assertTrue(model.unjump(moves[random.nextInt(count)]));
+        }
+      } else {
+        int count = Math.min(model.legalMoves(moves), moves.length);
+        if (count == 0) {
+          model.reset(0, 0);
+        } else {
+          int move = moves[random.nextInt(count)];
+          assertEquals(MoveResult.OK, model.tryMove(PackedMove.fromRow(move, boardSize),
+                  PackedMove.fromCol(move, boardSize), PackedMove.toRow(move, boardSize),
+                  PackedMove.toCol(move, boardSize)));
+        }
+      }
+      assertEquals(model.legalMoves(new int[0]), model.legalMoveCount());
+      assertEquals(model.legalMoveCount() == 0, model.isGameOver());
+    }
+  }
+}
@@ -288,7 +288,19 @@ public class TriangleSolitaireTextViewTest {
             badAppendable);
     view.renderMessage("hi");
   }
-}
-
-
 
+  // testing that a snapshot of a triangle board renders the board as it was when it was taken
+  @Test
+  public void testRenderSnapshot() {
+    TriangleSolitaireModel model = new TriangleSolitaireModel();
+    MarbleSolitaireModelState snapshot = model.snapshot();
+    assertEquals(snapshot, model.snapshot());
+    model.move(2, 0, 0, 0);
+    assertEquals(tsmView1.toString(), new TriangleSolitaireTextView(snapshot).toString());
+    assertEquals(tsmViewWithMoveDone.toString(),
+            new TriangleSolitaireTextView(model.snapshot()).toString());
+    model.undo();
+    assertEquals(tsmView1.toString(), new TriangleSolitaireTextView(model.snapshot()).toString());
+    assertEquals(14, model.snapshot().getScore());
+  }
+}
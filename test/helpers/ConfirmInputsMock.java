@@ -32,6 +32,12 @@ public class ConfirmInputsMock implements MarbleSolitaireModel {
     return false;
   }
 
+  @Override
+  public boolean undo() {
+    log.append("Controller asked to undo the last move.\n");
+    return false;
+  }
+
   @Override
   public int getBoardSize() {
     log.append("Controller obtained the board size.\n");